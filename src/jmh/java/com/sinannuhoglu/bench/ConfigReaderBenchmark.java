@@ -0,0 +1,80 @@
+package com.sinannuhoglu.bench;
+
+import com.sinannuhoglu.core.ConfigReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigReader okuma yolları: placeholder çözümlemeli get, byPrefix taraması ve getDuration.
+ * Adım başına birden çok kez çağrıldıkları için (UiSettle, DomWaiter, DriverFactory) çerçeve maliyetinin parçasıdır.
+ * fromEnvironment, ortam başına paylaşılan okuyucuyu döndürür (dosyalar yeniden okunmaz).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    private ConfigReader cfg;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("bench.host", "testapp.example");
+        System.setProperty("bench.path", "api/v1");
+        System.setProperty("bench.url", "https://${bench.host}/${bench.path}");
+        cfg = new ConfigReader("test");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.clearProperty("bench.host");
+        System.clearProperty("bench.path");
+        System.clearProperty("bench.url");
+    }
+
+    @Benchmark
+    public String get_plain() {
+        return cfg.get("selenium.browser");
+    }
+
+    @Benchmark
+    public String get_placeholder() {
+        return cfg.get("bench.url");
+    }
+
+    @Benchmark
+    public Map<String, String> byPrefix() {
+        return cfg.byPrefix("selenium.", true);
+    }
+
+    @Benchmark
+    public Duration getDuration() {
+        return cfg.getDuration("selenium.settle.quiet", Duration.ofMillis(150));
+    }
+
+    @Benchmark
+    public boolean getBoolean() {
+        return cfg.getBoolean("selenium.domWaits.enabled", true);
+    }
+
+    @Benchmark
+    public ConfigReader fromEnvironment() {
+        return ConfigReader.fromEnvironment();
+    }
+}
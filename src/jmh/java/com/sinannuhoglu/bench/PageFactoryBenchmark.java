@@ -0,0 +1,113 @@
+package com.sinannuhoglu.bench;
+
+import com.sinannuhoglu.core.ConfigReader;
+import com.sinannuhoglu.core.PageFactory;
+import com.sinannuhoglu.core.TestContext;
+import com.sinannuhoglu.pages.AppointmentWorkplanBarPage;
+import com.sinannuhoglu.pages.AppointmentsPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PageFactory: eski yansıma zinciri (her çağrıda getDeclaredConstructor) ile
+ * MethodHandle önbelleği ve senaryo kapsamlı sayfa önbelleğinin karşılaştırması.
+ * Sürücü, hiçbir komut göndermeyen bir Proxy'dir; yalnızca çerçeve maliyeti ölçülür.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageFactoryBenchmark {
+
+    /** Yalnızca parametresiz yapıcısı olan sayfa: eski zincirde üç başarısız arama yapar. */
+    public static class NoArgPage {
+        public NoArgPage() {}
+    }
+
+    private WebDriver driver;
+    private ConfigReader cfg;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = (WebDriver) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> null);
+        cfg = null;
+        TestContext.get().setDriver(driver);
+    }
+
+    @Benchmark
+    public Object legacyReflection_driverConfig() throws Exception {
+        return legacy(AppointmentsPage.class, driver, cfg);
+    }
+
+    @Benchmark
+    public Object cached_driverConfig() {
+        return PageFactory.create(AppointmentsPage.class, driver, cfg);
+    }
+
+    @Benchmark
+    public Object legacyReflection_driverOnly() throws Exception {
+        return legacy(AppointmentWorkplanBarPage.class, driver, cfg);
+    }
+
+    @Benchmark
+    public Object cached_driverOnly() {
+        return PageFactory.create(AppointmentWorkplanBarPage.class, driver, cfg);
+    }
+
+    @Benchmark
+    public Object legacyReflection_noArg() throws Exception {
+        return legacy(NoArgPage.class, driver, cfg);
+    }
+
+    @Benchmark
+    public Object cached_noArg() {
+        return PageFactory.create(NoArgPage.class, driver, cfg);
+    }
+
+    @Benchmark
+    public Object scenarioPageCache() {
+        return TestContext.get().page(AppointmentsPage.class);
+    }
+
+    // ---- Eski PageFactory.instantiate davranışı (karşılaştırma tabanı) ----
+
+    private static Object legacy(Class<?> type, WebDriver driver, ConfigReader cfg) throws Exception {
+        Constructor<?> c;
+        if ((c = ctor(type, WebDriver.class, ConfigReader.class)) != null) return c.newInstance(driver, cfg);
+        if ((c = ctor(type, WebDriver.class)) != null) return c.newInstance(driver);
+        if ((c = ctor(type, ConfigReader.class)) != null) return c.newInstance(cfg);
+        if ((c = ctor(type)) != null) return c.newInstance();
+        throw new IllegalStateException("Uygun yapıcı yok: " + type);
+    }
+
+    private static Constructor<?> ctor(Class<?> type, Class<?>... params) {
+        try {
+            Constructor<?> c = type.getDeclaredConstructor(params);
+            if (!Modifier.isPublic(c.getModifiers())) c.setAccessible(true);
+            return c;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
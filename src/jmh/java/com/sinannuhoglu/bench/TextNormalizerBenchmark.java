@@ -0,0 +1,84 @@
+package com.sinannuhoglu.bench;
+
+import com.sinannuhoglu.util.TextNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metin normalize yardımcıları: sayfalardaki eski yerel kopyalar (her çağrıda regex derleyen
+ * {@code replaceAll} + koşulsuz NFD) ile {@link TextNormalizer} karşılaştırması.
+ * Girdiler liste öğesi/chip metinlerine benzer; biri ASCII, biri Türkçe karakterli.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextNormalizerBenchmark {
+
+    private static final Locale TR = Locale.forLanguageTag("tr");
+
+    @Param({"  Dr. Ahmet  Yilmaz ", "Nişantaşı  Şube Kardiyoloji"})
+    public String text;
+
+    public String other = "nisantasi sube";
+
+    @Benchmark
+    public String legacy_normalizeLike() {
+        return legacyNormalizeLike(text);
+    }
+
+    @Benchmark
+    public String like() {
+        return TextNormalizer.like(text);
+    }
+
+    @Benchmark
+    public boolean legacy_textLike() {
+        String na = legacyNormalizeLike(text), nb = legacyNormalizeLike(other);
+        return na.equals(nb) || na.contains(nb) || nb.contains(na);
+    }
+
+    @Benchmark
+    public boolean likeMatches() {
+        return TextNormalizer.likeMatches(text, other);
+    }
+
+    @Benchmark
+    public String legacy_norm() {
+        String t = text.toLowerCase(TR).replaceAll("\\s+", " ").trim();
+        return Normalizer.normalize(t, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+    }
+
+    @Benchmark
+    public String trNorm() {
+        return TextNormalizer.trNorm(text);
+    }
+
+    @Benchmark
+    public String fold() {
+        return TextNormalizer.fold(text);
+    }
+
+    // ---- AppointmentsPage.normalizeLike eski hali (karşılaştırma tabanı) ----
+
+    private static String legacyNormalizeLike(String s) {
+        String t = s.trim().replace('\u00A0', ' ').replaceAll("\\s+", " ");
+        t = t.replace('İ','I').replace('ı','i');
+        t = Normalizer.normalize(t, Normalizer.Form.NFD).replaceAll("\\p{M}+","");
+        return t.toLowerCase();
+    }
+}
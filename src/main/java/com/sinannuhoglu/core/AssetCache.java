@@ -0,0 +1,138 @@
+package com.sinannuhoglu.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AssetCache
+ * <p>
+ * Statik JS/CSS paketlerinin URL başına disk önbelleği. {@link InterceptionProfile} CDP {@code Fetch} ile
+ * isteği yakalar; önbellekte varsa yanıtı diskten verir, yoksa ağdan gelen 200 yanıtını buraya yazar.
+ * Dosya adı URL'in SHA-256'sıdır; gövde {@code .body}, içerik tipi {@code .type} dosyasındadır. Yazma
+ * geçici dosya + taşıma ile yapılır (paralel fork'lar aynı dizini paylaşabilir).
+ * <p>
+ * Girdiler uygulama build sürümüne göre ayrılır ({@code <dir>/<sürüm>/}; sürüm {@link BrowserDiskCache} ile
+ * aynı yoldan hesaplanır) ve süreçteki ilk açılışta eski sürüm dizinleri silinir; böylece deploy sonrası
+ * parmak izi taşımayan paketler eski kodu çalıştırmaz. Sürüm tespit edilemezse ({@code unversioned}) de
+ * girdiler {@code ttl}'den eskiyse yeniden ağdan alınır.
+ * <p>
+ * Ayarlar (ConfigReader):
+ * <pre>
+ *   selenium.assetCache.enabled (default: false)
+ *   selenium.assetCache.dir     (default: target/asset-cache)
+ *   selenium.assetCache.include (default: hepsi)  URL parçaları; yalnızca eşleşen paketler önbelleğe alınır
+ *   selenium.assetCache.ttl     (default: 24h)    0 = süresiz
+ * </pre>
+ */
+public final class AssetCache {
+
+    /** Önbellekten okunan yanıt. */
+    public record Hit(byte[] body, String contentType) {}
+
+    private static final Set<Path> PRUNED = ConcurrentHashMap.newKeySet();
+
+    private final Path dir;
+    private final List<String> include;
+    private final long ttlMillis;
+
+    private AssetCache(Path dir, List<String> include, Duration ttl) {
+        this.dir = dir;
+        this.include = include;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /** Önbellek açıksa dizini hazırlayıp döndürür; kapalıysa ya da dizin oluşturulamazsa null. */
+    public static AssetCache open(ConfigReader cfg) {
+        if (cfg == null || !cfg.getBoolean("selenium.assetCache.enabled", false)) return null;
+        Path root = Paths.get(cfg.get("selenium.assetCache.dir", "target/asset-cache"));
+        Path dir = root.resolve(BrowserDiskCache.version(cfg));
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            System.out.println("[AssetCache] Dizin oluşturulamadı: " + dir + " (" + e.getMessage() + ")");
+            return null;
+        }
+        if (PRUNED.add(root)) BrowserDiskCache.prune(root, dir);
+        return new AssetCache(dir, cfg.getList("selenium.assetCache.include"),
+                cfg.getDuration("selenium.assetCache.ttl", Duration.ofHours(24)));
+    }
+
+    /** URL önbelleğe alınabilir mi? */
+    public boolean accepts(String url) {
+        if (url == null || !url.startsWith("http")) return false;
+        if (include.isEmpty()) return true;
+        for (String part : include) if (url.contains(part)) return true;
+        return false;
+    }
+
+    /** Önbellekteki yanıt; yoksa ya da okunamazsa null. */
+    public Hit get(String url) {
+        String key = key(url);
+        Path body = dir.resolve(key + ".body");
+        if (!Files.isRegularFile(body)) return null;
+        try {
+            if (ttlMillis > 0 && System.currentTimeMillis() - Files.getLastModifiedTime(body).toMillis() > ttlMillis) {
+                return null; // süresi dolmuş: ağdan gelen yanıt üzerine yazılır
+            }
+            Path type = dir.resolve(key + ".type");
+            String ct = Files.isRegularFile(type) ? Files.readString(type, StandardCharsets.UTF_8) : "";
+            return new Hit(Files.readAllBytes(body), ct);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** Yanıtı yazar; hata loglanır, akış kesilmez. */
+    public void put(String url, byte[] body, String contentType) {
+        String key = key(url);
+        try {
+            // önce tip, sonra gövde: gövde görünür olduğunda tip de hazırdır
+            write(dir.resolve(key + ".type"), (contentType == null ? "" : contentType).getBytes(StandardCharsets.UTF_8));
+            write(dir.resolve(key + ".body"), body);
+        } catch (IOException e) {
+            System.out.println("[AssetCache] Yazılamadı: " + url + " (" + e.getMessage() + ")");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return dir.toString();
+    }
+
+    // ---------------------------------------------------------------------
+
+    private static void write(Path target, byte[] data) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, data);
+            try {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static String key(String url) {
+        try {
+            byte[] d = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(d);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.sinannuhoglu.core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BackgroundCheckpoint
+ * <p>
+ * Feature'ın Background adımları (login, tenant, dashboard, modül gezinmesi) worker thread başına her feature
+ * için bir kez oynatılır; son Background adımı geçince URL, çerez ve storage ({@link BrowserState}) ile sayfa
+ * başlığı saklanır. Aynı feature'ın sonraki senaryolarında durum geri yüklenir, doğrulama probu geçerse
+ * Background adımları atlanır ({@link #skipping()}); prob başarısızsa durum temizlenir, kayıt silinir ve
+ * adımlar normal oynatılır.
+ * <p>
+ * Prob: login'e yönlendirilmemiş, yol (path) yakalananla aynı, {@code document.readyState} complete,
+ * başlık aynı ve (verildiyse) {@code background.checkpoint.probe} CSS seçicisi görünür.
+ * <p>
+ * Ayarlar (ConfigReader):
+ * <pre>
+ *   background.checkpoint.enabled      (default: false)
+ *   background.checkpoint.ttl          (default: 30m)
+ *   background.checkpoint.probeTimeout (default: 10s)
+ *   background.checkpoint.probe        (default: yok)
+ * </pre>
+ * Senaryo sınırları ve adım sırası Cucumber olaylarından ({@code BackgroundCheckpointPlugin}) beslenir.
+ */
+public final class BackgroundCheckpoint {
+
+    private static final String PROBE =
+            "var css=arguments[0];if(document.readyState!=='complete')return null;" +
+            "if(css){var el=document.querySelector(css);if(!el)return null;var r=el.getBoundingClientRect();" +
+            " if(r.width<=0||r.height<=0)return null;}" +
+            "return {path:location.pathname,title:document.title};";
+
+    private static final String CLEAR_STORAGE =
+            "try{localStorage.clear();}catch(e){}try{sessionStorage.clear();}catch(e){}";
+
+    private record Entry(BrowserState state, String title) {}
+
+    /** Aktif senaryonun Background bilgisi ve adım sayacı. */
+    private static final class Current {
+        final String feature;
+        final int backgroundSteps;
+        int step;
+        boolean restored;
+
+        Current(String feature, int backgroundSteps) {
+            this.feature = feature;
+            this.backgroundSteps = backgroundSteps;
+        }
+    }
+
+    private static final ThreadLocal<Map<String, Entry>> ENTRIES = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Current> CURRENT = new ThreadLocal<>();
+
+    private BackgroundCheckpoint() {}
+
+    /** Checkpoint modu etkin mi? */
+    public static boolean isEnabled(ConfigReader cfg) {
+        return cfg != null && cfg.getBoolean("background.checkpoint.enabled", false);
+    }
+
+    /** Senaryo başlangıcı: feature kimliği ve Background adım sayısı (Background yoksa 0). */
+    public static void begin(String feature, int backgroundSteps) {
+        CURRENT.set(new Current(feature, backgroundSteps));
+    }
+
+    /** Senaryo bitişi. */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Feature için kayıt varsa tarayıcıya geri yükler ve doğrular.
+     * @return prob geçti ve Background adımları atlanacaksa true
+     */
+    public static boolean restore(WebDriver driver, ConfigReader cfg) {
+        Current c = CURRENT.get();
+        if (c == null || c.backgroundSteps == 0 || !isEnabled(cfg)) return false;
+        Entry e = ENTRIES.get().get(c.feature);
+        if (e == null) return false;
+
+        Duration ttl = cfg.getDuration("background.checkpoint.ttl", Duration.ofMinutes(30));
+        if (e.state().ageMillis() > ttl.toMillis()) {
+            invalidate(c.feature, "TTL doldu");
+            return false;
+        }
+        long t0 = System.nanoTime();
+        if (!e.state().restore(driver) || !probe(driver, cfg, e)) {
+            invalidate(c.feature, "prob başarısız");
+            reset(driver);
+            return false;
+        }
+        c.restored = true;
+        System.out.println("[BackgroundCheckpoint] Geri yüklendi: " + c.feature + " (" + c.backgroundSteps
+                + " adım atlanacak, " + (System.nanoTime() - t0) / 1_000_000L + " ms)");
+        return true;
+    }
+
+    /** Adım başlangıcı (yalnızca Gherkin adımları sayılır). */
+    public static void stepStarted() {
+        Current c = CURRENT.get();
+        if (c != null) c.step++;
+    }
+
+    /** Son Background adımı geçtiyse ve kayıt yoksa durumu yakalar. */
+    public static void stepFinished(boolean passed, WebDriver driver, ConfigReader cfg) {
+        Current c = CURRENT.get();
+        if (c == null || c.restored || !passed || c.step != c.backgroundSteps || c.backgroundSteps == 0) return;
+        if (driver == null || !isEnabled(cfg) || ENTRIES.get().containsKey(c.feature)) return;
+        try {
+            if (SessionCache.redirectedToLogin(driver)) return;
+            String title = driver.getTitle();
+            BrowserState state = BrowserState.capture(driver);
+            ENTRIES.get().put(c.feature, new Entry(state, title));
+            System.out.println("[BackgroundCheckpoint] Yakalandı: " + c.feature + " → " + state);
+        } catch (Exception ex) {
+            System.out.println("[BackgroundCheckpoint] Yakalama başarısız: " + ex.getMessage());
+        }
+    }
+
+    /** Aktif adım geri yüklenmiş bir Background adımı mı (adım gövdesi atlanmalı)? */
+    public static boolean skipping() {
+        Current c = CURRENT.get();
+        return c != null && c.restored && c.step >= 1 && c.step <= c.backgroundSteps;
+    }
+
+    /** Bu thread'in tüm kayıtlarını siler. */
+    public static void clear() {
+        ENTRIES.get().clear();
+    }
+
+    // ---------------------------------------------------------------------
+
+    private static boolean probe(WebDriver driver, ConfigReader cfg, Entry e) {
+        String expectedPath = path(e.state().url());
+        String css = cfg.get("background.checkpoint.probe", "");
+        try {
+            new FluentWait<>(driver)
+                    .withTimeout(cfg.getDuration("background.checkpoint.probeTimeout", Duration.ofSeconds(10)))
+                    .pollingEvery(Duration.ofMillis(200))
+                    .until(d -> {
+                        if (SessionCache.redirectedToLogin(d)) throw new TimeoutException("login'e yönlendirildi");
+                        Object r = ((JavascriptExecutor) d).executeScript(PROBE, css.isBlank() ? null : css);
+                        return r instanceof Map<?, ?> m
+                                && expectedPath.equals(m.get("path"))
+                                && (e.title() == null || e.title().equals(m.get("title")));
+                    });
+            return true;
+        } catch (WebDriverException ex) {
+            System.out.println("[BackgroundCheckpoint] Prob geçmedi: " + ex.getMessage());
+            return false;
+        }
+    }
+
+    /** Yarım kalan geri yüklemeden sonra tam oynatma için temiz başlangıç. */
+    private static void reset(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE);
+            driver.manage().deleteAllCookies();
+        } catch (Exception ignored) {
+            // tam oynatma zaten login sayfasını açar
+        }
+    }
+
+    private static void invalidate(String feature, String reason) {
+        if (ENTRIES.get().remove(feature) != null) {
+            System.out.println("[BackgroundCheckpoint] Geçersiz: " + feature + " (" + reason + ")");
+        }
+    }
+
+    private static String path(String url) {
+        try {
+            String p = URI.create(url).getPath();
+            return p == null || p.isEmpty() ? "/" : p;
+        } catch (RuntimeException e) {
+            return url;
+        }
+    }
+}
@@ -5,14 +5,21 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.List;
 
 /*
  * BasePage
  * ------------------------------------------------------------------
  * Page Object’ler için ortak altyapı:
  *  - Explicit wait yardımcıları (visible/clickable/invisible, URL).
+ *    Locator tabanlı beklemeler {@link DomWaiter} (MutationObserver) ile tarayıcı içinde
+ *    çözülür; desteklenmeyen durumlarda WebDriverWait poll'una düşülür.
  *  - Güvenli etkileşimler (click fallback, jsClick, scrollIntoView).
  *  - Yüklenme kontrolleri (readyState: interactive/complete).
+ *  - Sabit sleep yerine {@link UiSettle} ile "arayüz durdu" beklemesi.
+ *  - CDP ağ izleyicisi ({@link NetworkTracker}) bağlıysa kesin ağ beklemeleri: "ağ N ms sessiz",
+ *    "eylemden sonra /appointment-service/ isteği bitti". İzleyici yoksa UiSettle'a düşülür.
+ *  - Çoklu eleman okumaları için tek script'lik {@link ElementSnapshot} listeleri.
  *
  * Zaman aşımı
  *  - Varsayılan 20 sn (ctor ile override edilebilir).
@@ -42,18 +49,42 @@ public abstract class BasePage {
 
     // ---- Waits ----
     protected WebElement waitVisible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return waitVisible(locator, timeoutSec);
+    }
+
+    protected WebElement waitVisible(By locator, long seconds) {
+        WebElement el = awaitDom(DomWaiter.Condition.VISIBLE, seconds, locator);
+        return el != null ? el : new WebDriverWait(driver, Duration.ofSeconds(seconds))
+                .until(ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     protected WebElement waitClickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        WebElement el = awaitDom(DomWaiter.Condition.CLICKABLE, timeoutSec, locator);
+        return el != null ? el : wait.until(ExpectedConditions.elementToBeClickable(locator));
     }
 
     protected void waitInvisible(By locator) {
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        waitInvisible(locator, timeoutSec);
+    }
+
+    protected void waitInvisible(By locator, long seconds) {
+        if (DomWaiter.isEnabled()) {
+            try {
+                DomWaiter.of(driver).await(DomWaiter.Condition.GONE, Duration.ofSeconds(seconds), locator);
+                return;
+            } catch (UnsupportedOperationException ignored) {}
+        }
+        new WebDriverWait(driver, Duration.ofSeconds(seconds))
+                .until(ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     protected void waitInvisible(WebElement el) {
+        if (DomWaiter.isEnabled()) {
+            try {
+                DomWaiter.of(driver).awaitGone(el, Duration.ofSeconds(timeoutSec));
+                return;
+            } catch (UnsupportedOperationException ignored) {}
+        }
         wait.until(ExpectedConditions.invisibilityOf(el));
     }
 
@@ -87,8 +118,37 @@ public abstract class BasePage {
                 .until(d -> "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState")));
     }
 
+    /**
+     * Ağ, animasyon, Syncfusion spinner'ı ve DOM sessizleşene kadar bekler (sabit sleep yerine).
+     * @return beklemenin gerçek süresi (ms)
+     */
+    protected long waitUiSettled(String label) {
+        return UiSettle.await(driver, label);
+    }
+
+    /**
+     * Bekleyen XHR/fetch kalmayıp ağ {@code selenium.network.quiet} boyunca sessiz kalana kadar bekler.
+     * İzleyici bağlı değilse {@link #waitUiSettled(String)} ile aynıdır.
+     * @return beklemenin gerçek süresi (ms)
+     */
+    protected long waitNetworkIdle(String label) {
+        NetworkTracker tracker = NetworkTracker.of(driver);
+        return tracker != null ? tracker.awaitIdle(label) : UiSettle.await(driver, label);
+    }
+
+    /**
+     * Eylemi çalıştırır ve ardından başlayan, URL'i {@code urlPart} içeren isteğin bitmesini bekler.
+     * İzleyici bağlı değilse eylemden sonra {@link UiSettle} beklenir.
+     * @return istek görüldüyse true (izleyici yoksa her zaman false)
+     */
+    protected boolean runAndAwaitRequest(String urlPart, String label, Runnable action) {
+        return NetworkTracker.runAndAwait(driver, urlPart, label, action);
+    }
+
     /** Verilen locator dizisinden ilk görünen elementi döndürür. */
     protected WebElement waitAnyVisible(By... locators) {
+        WebElement found = awaitDom(DomWaiter.Condition.VISIBLE, timeoutSec, locators);
+        if (found != null) return found;
         return new WebDriverWait(driver, Duration.ofSeconds(timeoutSec))
                 .until(d -> {
                     for (By by : locators) {
@@ -101,6 +161,19 @@ public abstract class BasePage {
                 });
     }
 
+    /**
+     * DomWaiter ile bekler; devre dışıysa ya da locator/script desteklenmiyorsa null döner
+     * (çağıran WebDriverWait'e düşer). Süre dolarsa TimeoutException fırlatılır.
+     */
+    private WebElement awaitDom(DomWaiter.Condition condition, long seconds, By... locators) {
+        if (!DomWaiter.isEnabled()) return null;
+        try {
+            return DomWaiter.of(driver).await(condition, Duration.ofSeconds(seconds), locators);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
     // ---- Interactions ----
     protected void click(By locator) { waitClickable(locator).click(); }
 
@@ -145,6 +218,17 @@ public abstract class BasePage {
         }
     }
 
+    // ---- Snapshots ----
+    /** Locator'ın tüm eşleşmelerini tek script ile okur (bkz. {@link ElementSnapshot}). */
+    protected List<ElementSnapshot> snapshot(By locator, String... attributes) {
+        return ElementSnapshot.take(driver, locator, attributes);
+    }
+
+    /** {@code root} altındaki eşleşmeler; {@code child} verilirse görünür alt eleman metinleri de toplanır. */
+    protected List<ElementSnapshot> snapshot(WebElement root, By locator, By child, String... attributes) {
+        return ElementSnapshot.take(driver, root, locator, child, attributes);
+    }
+
     // ---- Presence checks ----
     protected boolean isPresent(By locator) {
         try {
@@ -0,0 +1,366 @@
+package com.sinannuhoglu.core;
+
+import com.sinannuhoglu.util.AppConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * BrowserDiskCache
+ * <p>
+ * Oturumlar arası kalıcı Chrome disk önbelleği. Her ChromeDriver atılabilir bir profil ile başladığından
+ * SPA'nın JS/CSS/font paketleri her senaryoda yeniden indirilir; bu sınıf {@code --disk-cache-dir}'i
+ * sürümlü, paylaşılan bir dizine çevirir:
+ * <pre>
+ *   &lt;dir&gt;/&lt;sürüm&gt;/slot-N/       Chrome önbelleği (aynı anda tek oturum)
+ *   &lt;dir&gt;/&lt;sürüm&gt;/slot-N.lock   süreçler arası kilit (FileLock)
+ * </pre>
+ * Eşzamanlı oturumlar aynı dizine yazmaz: her oturum boş bir slot'u kilitler, kapanınca bırakır. Yeni
+ * (boş) slot, kilitsiz en güncel kardeşinden kopyalanarak başlatılır (copy-on-start).
+ * <p>
+ * Sürüm, {@code selenium.diskCache.version} verilmemişse login sayfasının JS/CSS referanslarının
+ * SHA-256'sından türetilir (uygulama build'i değişince paket adları/parmak izleri değişir). Süreçteki ilk
+ * slot alımında diğer sürüm dizinleri silinir.
+ * <p>
+ * Senaryo başına ölçüm: CDP {@code Network} olaylarıyla önbellekten okunan ve ağdan gelen bayt sayılır
+ * ({@link #takeStats(WebDriver)}).
+ * <p>
+ * Ayarlar (ConfigReader):
+ * <pre>
+ *   selenium.diskCache.enabled (default: false)  -DdiskCache=true
+ *   selenium.diskCache.dir     (default: target/browser-cache)
+ *   selenium.diskCache.sizeMb  (default: 256)
+ *   selenium.diskCache.version (default: login sayfasından hesaplanır)
+ * </pre>
+ */
+public final class BrowserDiskCache {
+
+    private static final int MAX_SLOTS = 64;
+    private static final String UNVERSIONED = "unversioned";
+    private static final Pattern ASSET_REF = Pattern.compile(
+            "(?:src|href)\\s*=\\s*[\"']([^\"']+\\.(?:js|css)(?:\\?[^\"']*)?)[\"']", Pattern.CASE_INSENSITIVE);
+
+    private static final Function<JsonInput, Map<String, Object>> AS_MAP = in -> in.read(Json.MAP_TYPE);
+
+    private static final Map<WebDriver, Slot> SLOTS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Set<Path> PRUNED = ConcurrentHashMap.newKeySet();
+    private static volatile String detectedVersion;
+
+    /** Kilitlenmiş önbellek dizini; oturum kapanınca {@link #release(WebDriver)} ile bırakılır. */
+    public static final class Slot {
+        private final Path dir;
+        private final FileChannel channel;
+        private final FileLock lock;
+        private final Stats stats = new Stats();
+
+        private Slot(Path dir, FileChannel channel, FileLock lock) {
+            this.dir = dir;
+            this.channel = channel;
+            this.lock = lock;
+        }
+
+        public Path dir() { return dir; }
+
+        private void close() {
+            try { lock.release(); } catch (IOException ignored) {}
+            try { channel.close(); } catch (IOException ignored) {}
+        }
+    }
+
+    /** Senaryo boyunca önbellekten/ağdan gelen bayt ve istek sayıları. */
+    public static final class Stats {
+        private final Map<String, Boolean> cached = new HashMap<>();
+        private long hitBytes, hitRequests, networkBytes, networkRequests;
+
+        private synchronized void response(String id, boolean fromDiskCache) {
+            if (fromDiskCache) {
+                cached.put(id, Boolean.TRUE);
+                hitRequests++;
+            }
+        }
+
+        private synchronized void data(String id, long bytes) {
+            if (cached.containsKey(id)) hitBytes += bytes;
+        }
+
+        private synchronized void finished(String id, long encodedBytes) {
+            if (cached.remove(id) == null) {
+                networkBytes += encodedBytes;
+                networkRequests++;
+            }
+        }
+
+        /** Değerleri okuyup sıfırlar. */
+        public synchronized Map<String, Object> drain() {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("hitRequests", hitRequests);
+            m.put("hitBytes", hitBytes);
+            m.put("networkRequests", networkRequests);
+            m.put("networkBytes", networkBytes);
+            hitBytes = hitRequests = networkBytes = networkRequests = 0;
+            cached.clear();
+            return m;
+        }
+    }
+
+    private BrowserDiskCache() {}
+
+    /** Paylaşılan disk önbelleği açık mı? ({@code -DdiskCache} config'i ezer.) */
+    public static boolean isEnabled(ConfigReader cfg) {
+        String sys = System.getProperty("diskCache");
+        if (sys != null && !sys.isBlank()) return Boolean.parseBoolean(sys.trim());
+        return cfg != null && cfg.getBoolean("selenium.diskCache.enabled", false);
+    }
+
+    /**
+     * Boş bir slot kilitler, gerekiyorsa kardeşinden kopyalar ve Chrome argümanlarını ekler.
+     * @return slot; kapalıysa ya da slot alınamazsa null (Chrome atılabilir önbellekle başlar)
+     */
+    public static Slot configure(ChromeOptions opts, ConfigReader cfg) {
+        if (!isEnabled(cfg)) return null;
+        Path root = Paths.get(cfg.get("selenium.diskCache.dir", "target/browser-cache"));
+        Path versionDir = root.resolve(version(cfg));
+        try {
+            Files.createDirectories(versionDir);
+            if (PRUNED.add(root)) prune(root, versionDir);
+            Slot slot = claim(versionDir);
+            if (slot == null) {
+                System.out.println("[BrowserDiskCache] Boş slot yok (" + MAX_SLOTS + "); önbelleksiz başlanıyor.");
+                return null;
+            }
+            long sizeMb = cfg.getLong("selenium.diskCache.sizeMb", 256);
+            opts.addArguments("--disk-cache-dir=" + slot.dir.toAbsolutePath(),
+                    "--disk-cache-size=" + sizeMb * 1024 * 1024);
+            return slot;
+        } catch (IOException e) {
+            System.out.println("[BrowserDiskCache] Hazırlanamadı: " + versionDir + " (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+    /** Slot'u sürücüye bağlar ve bayt sayaçlarını CDP oturumuna kurar. */
+    public static void bind(WebDriver driver, Slot slot) {
+        if (driver == null || slot == null) return;
+        register(driver, slot);
+        if (!(driver instanceof HasDevTools hd)) return;
+        try {
+            DevTools devTools = hd.maybeGetDevTools().orElse(null);
+            if (devTools == null) return;
+            devTools.createSessionIfThereIsNotOne();
+            Stats s = slot.stats;
+            devTools.addListener(new Event<>("Network.responseReceived", AS_MAP), e ->
+                    s.response(String.valueOf(e.get("requestId")),
+                            e.get("response") instanceof Map<?, ?> r && Boolean.TRUE.equals(r.get("fromDiskCache"))));
+            devTools.addListener(new Event<>("Network.dataReceived", AS_MAP), e ->
+                    s.data(String.valueOf(e.get("requestId")), asLong(e.get("dataLength"))));
+            devTools.addListener(new Event<>("Network.loadingFinished", AS_MAP), e ->
+                    s.finished(String.valueOf(e.get("requestId")), asLong(e.get("encodedDataLength"))));
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+        } catch (RuntimeException e) {
+            System.out.println("[BrowserDiskCache] Ölçüm kurulamadı: " + e.getMessage());
+        }
+    }
+
+    /** Aynı slot'u sarmalanmış (decorated) sürücü için de kaydeder. */
+    public static void register(WebDriver driver, Slot slot) {
+        if (driver != null && slot != null) SLOTS.put(driver, slot);
+    }
+
+    /** Sürücü kapandıktan sonra slot kilidini bırakır (slot yoksa bir şey yapmaz). */
+    public static void release(WebDriver driver) {
+        Slot slot = driver == null ? null : SLOTS.remove(driver);
+        if (slot != null) slot.close();
+    }
+
+    /** Oluşturma başarısız olduğunda kilidi doğrudan bırakır. */
+    public static void release(Slot slot) {
+        if (slot != null) slot.close();
+    }
+
+    /** Son çağrıdan bu yana önbellek/ağ bayt sayıları; sürücüye slot bağlı değilse null. */
+    public static Map<String, Object> takeStats(WebDriver driver) {
+        Slot slot = driver == null ? null : SLOTS.get(driver);
+        return slot == null ? null : slot.stats.drain();
+    }
+
+    // ---------------------------------------------------------------------
+
+    private static Slot claim(Path versionDir) throws IOException {
+        for (int n = 0; n < MAX_SLOTS; n++) {
+            Path lockFile = versionDir.resolve("slot-" + n + ".lock");
+            FileChannel ch = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock;
+            try {
+                lock = ch.tryLock();
+            } catch (OverlappingFileLockException e) {
+                lock = null; // bu JVM'deki başka oturum tutuyor
+            }
+            if (lock == null) {
+                ch.close();
+                continue;
+            }
+            Path dir = versionDir.resolve("slot-" + n);
+            if (!Files.isDirectory(dir)) seed(versionDir, dir);
+            return new Slot(dir, ch, lock);
+        }
+        return null;
+    }
+
+    /** Kilitsiz en güncel kardeş slot'u yeni slot'a kopyalar; yoksa boş dizin açar. */
+    private static void seed(Path versionDir, Path target) throws IOException {
+        Path source = null;
+        try (Stream<Path> s = Files.list(versionDir)) {
+            source = s.filter(Files::isDirectory)
+                    .filter(p -> p.getFileName().toString().startsWith("slot-"))
+                    .max(Comparator.comparingLong(BrowserDiskCache::lastModified))
+                    .orElse(null);
+        }
+        if (source == null) {
+            Files.createDirectories(target);
+            return;
+        }
+        Path tmp = versionDir.resolve(target.getFileName() + ".tmp-" + ProcessHandle.current().pid());
+        try (FileChannel ch = FileChannel.open(versionDir.resolve(source.getFileName() + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = tryLock(ch)) {
+            if (lock == null) {
+                // kaynak kullanımda: yazılırken kopyalamak tutarsız önbellek üretir
+                Files.createDirectories(target);
+                return;
+            }
+            copyTree(source, tmp);
+            Files.move(tmp, target);
+            System.out.println("[BrowserDiskCache] " + target.getFileName() + " ← " + source.getFileName() + " kopyalandı");
+        } catch (IOException e) {
+            deleteTree(tmp);
+            Files.createDirectories(target);
+        }
+    }
+
+    private static FileLock tryLock(FileChannel ch) throws IOException {
+        try {
+            return ch.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    /** {@code root} altındaki {@code keep} dışındaki dizinleri siler (eski sürümler; AssetCache de kullanır). */
+    static void prune(Path root, Path keep) {
+        try (Stream<Path> s = Files.list(root)) {
+            s.filter(Files::isDirectory).filter(p -> !p.equals(keep)).forEach(p -> {
+                deleteTree(p);
+                System.out.println("[BrowserDiskCache] Eski sürüm silindi: " + p.getFileName());
+            });
+        } catch (IOException ignored) {
+            // bir sonraki koşumda yeniden denenir
+        }
+    }
+
+    /** Uygulama build sürümü: {@code selenium.diskCache.version} ya da login sayfasından hesaplanan özet (süreçte bir kez). */
+    static String version(ConfigReader cfg) {
+        String v = cfg.get("selenium.diskCache.version", "");
+        if (!v.isBlank()) return v.trim().replaceAll("[^A-Za-z0-9._-]", "_");
+        String d = detectedVersion;
+        if (d != null) return d;
+        synchronized (BrowserDiskCache.class) {
+            if (detectedVersion == null) {
+                detectedVersion = detectVersion();
+                System.out.println("[BrowserDiskCache] Build sürümü: " + detectedVersion);
+            }
+            return detectedVersion;
+        }
+    }
+
+    /** Login sayfasındaki JS/CSS referanslarının özeti; sayfa alınamazsa {@value #UNVERSIONED}. */
+    private static String detectVersion() {
+        try {
+            HttpClient http = HttpClient.newBuilder()
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            HttpResponse<String> r = http.send(
+                    HttpRequest.newBuilder(URI.create(AppConfig.baseUrl())).timeout(Duration.ofSeconds(5)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            StringBuilder refs = new StringBuilder();
+            Matcher m = ASSET_REF.matcher(r.body());
+            while (m.find()) refs.append(m.group(1)).append('\n');
+            if (refs.length() == 0) return UNVERSIONED;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refs.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (IOException | RuntimeException | NoSuchAlgorithmException e) {
+            return UNVERSIONED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UNVERSIONED;
+        }
+    }
+
+    private static void copyTree(Path from, Path to) throws IOException {
+        try (Stream<Path> s = Files.walk(from)) {
+            for (Path p : (Iterable<Path>) s::iterator) {
+                Path dest = to.resolve(from.relativize(p).toString());
+                if (Files.isDirectory(p)) Files.createDirectories(dest);
+                else Files.copy(p, dest);
+            }
+        }
+    }
+
+    private static void deleteTree(Path root) {
+        if (!Files.exists(root)) return;
+        try (Stream<Path> s = Files.walk(root)) {
+            s.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try { Files.deleteIfExists(p); } catch (IOException ignored) {}
+            });
+        } catch (IOException ignored) {
+            // kısmi silme yeterli
+        }
+    }
+
+    private static long lastModified(Path p) {
+        try {
+            return Files.getLastModifiedTime(p).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static long asLong(Object o) {
+        return o instanceof Number n ? n.longValue() : 0L;
+    }
+}
@@ -0,0 +1,114 @@
+package com.sinannuhoglu.core;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tarayıcı durumunun (URL, çerezler, local/session storage) değişmez anlık görüntüsü.
+ * <p>
+ * {@link #capture(WebDriver)} aktif sayfanın origin'i için durumu okur;
+ * {@link #restore(WebDriver)} aynı origin'e hafif bir istekle gidip durumu geri yazar
+ * ve yakalanan URL'e döner. Başka origin'lerin çerezleri kapsam dışıdır.
+ */
+public final class BrowserState {
+
+    private static final String READ_STORAGE =
+            "var out={local:{},session:{}};" +
+            "try{for(var i=0;i<localStorage.length;i++){var k=localStorage.key(i);out.local[k]=localStorage.getItem(k);}}catch(e){}" +
+            "try{for(var j=0;j<sessionStorage.length;j++){var s=sessionStorage.key(j);out.session[s]=sessionStorage.getItem(s);}}catch(e){}" +
+            "return out;";
+
+    private static final String WRITE_STORAGE =
+            "var l=arguments[0]||{},s=arguments[1]||{};" +
+            "try{localStorage.clear();Object.keys(l).forEach(function(k){localStorage.setItem(k,l[k]);});}catch(e){}" +
+            "try{sessionStorage.clear();Object.keys(s).forEach(function(k){sessionStorage.setItem(k,s[k]);});}catch(e){}";
+
+    private final String url;
+    private final Set<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+    private final long capturedAt;
+
+    private BrowserState(String url, Set<Cookie> cookies,
+                         Map<String, String> localStorage, Map<String, String> sessionStorage) {
+        this.url = url;
+        this.cookies = Collections.unmodifiableSet(new LinkedHashSet<>(cookies));
+        this.localStorage = Collections.unmodifiableMap(new LinkedHashMap<>(localStorage));
+        this.sessionStorage = Collections.unmodifiableMap(new LinkedHashMap<>(sessionStorage));
+        this.capturedAt = System.currentTimeMillis();
+    }
+
+    /** Aktif sayfanın URL, çerez ve storage içeriğini yakalar. */
+    public static BrowserState capture(WebDriver driver) {
+        String url = driver.getCurrentUrl();
+        Set<Cookie> cookies = driver.manage().getCookies();
+        Object raw = ((JavascriptExecutor) driver).executeScript(READ_STORAGE);
+        Map<String, String> local = new LinkedHashMap<>();
+        Map<String, String> session = new LinkedHashMap<>();
+        if (raw instanceof Map<?, ?> m) {
+            copyStrings(m.get("local"), local);
+            copyStrings(m.get("session"), session);
+        }
+        return new BrowserState(url, cookies, local, session);
+    }
+
+    /**
+     * Durumu tarayıcıya geri yazar ve yakalanan URL'i açar.
+     * @return geri yükleme adımları hatasız tamamlandıysa true (oturumun geçerliliğini garanti etmez)
+     */
+    public boolean restore(WebDriver driver) {
+        try {
+            driver.navigate().to(origin(url) + "/favicon.ico");
+            driver.manage().deleteAllCookies();
+            Date now = new Date();
+            for (Cookie c : cookies) {
+                if (c.getExpiry() != null && c.getExpiry().before(now)) continue;
+                try { driver.manage().addCookie(c); } catch (Exception ignored) {}
+            }
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE, localStorage, sessionStorage);
+            driver.navigate().to(url);
+            return true;
+        } catch (Exception e) {
+            System.out.println("[BrowserState] Geri yükleme başarısız: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public String url() { return url; }
+
+    public Set<Cookie> cookies() { return cookies; }
+
+    public Map<String, String> localStorage() { return localStorage; }
+
+    public Map<String, String> sessionStorage() { return sessionStorage; }
+
+    public long capturedAt() { return capturedAt; }
+
+    /** Yakalanmasından bu yana geçen süre (ms). */
+    public long ageMillis() { return System.currentTimeMillis() - capturedAt; }
+
+    @Override
+    public String toString() {
+        return "BrowserState{url='" + url + "', cookies=" + cookies.size()
+                + ", local=" + localStorage.size() + ", session=" + sessionStorage.size() + "}";
+    }
+
+    private static String origin(String url) {
+        URI u = URI.create(url);
+        return u.getScheme() + "://" + u.getAuthority();
+    }
+
+    private static void copyStrings(Object src, Map<String, String> target) {
+        if (!(src instanceof Map<?, ?> m)) return;
+        m.forEach((k, v) -> { if (k != null && v != null) target.put(String.valueOf(k), String.valueOf(v)); });
+    }
+}
@@ -4,6 +4,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,6 +16,11 @@ import java.util.regex.Pattern;
  * Tek noktadan konfigürasyon erişimi. Öncelik sırası:
  * System properties → resources/config/default.properties →
  * resources/config/&lt;env&gt;.properties → Environment variables (FOO_BAR).
+ * <p>
+ * Kaynaklar yükleme anında değişmez bir anlık görüntüye (snapshot) alınır; placeholder çözümlemesi ve
+ * tipli dönüşümler (int/long/boolean/Duration/list/byPrefix) anahtar başına bir kez yapılıp önbelleklenir.
+ * {@link #fromEnvironment()} ortam başına tek örnek döndürür (dosyalar süreç boyunca bir kez okunur).
+ * Snapshot sonrası değişen System property'ler / dosyalar {@link #refresh()} ya da {@link #refreshAll()} ile görülür.
  */
 public class ConfigReader {
 
@@ -21,22 +29,42 @@ public class ConfigReader {
     private static final Pattern SIMPLE_DURATION =
             Pattern.compile("^\\s*(\\d+)\\s*(ms|s|m|h|d)\\s*$", Pattern.CASE_INSENSITIVE);
     private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("[,;]");
     private static final int MAX_PLACEHOLDER_DEPTH = 25;
 
+    private static final ConcurrentMap<String, ConfigReader> BY_ENV = new ConcurrentHashMap<>();
+
     private final String env;
-    private final Properties props = new Properties();
+    private volatile Snapshot snapshot;
 
+    /** Etkin ortamın (-Denv / ENV / test) süreç genelinde paylaşılan okuyucusu. */
     public static ConfigReader fromEnvironment() {
         String e = System.getProperty("env");
         if (e == null || e.isBlank()) e = System.getenv("ENV");
         if (e == null || e.isBlank()) e = DEFAULT_ENV;
-        return new ConfigReader(e);
+        return BY_ENV.computeIfAbsent(e.trim(), ConfigReader::new);
+    }
+
+    /** Paylaşılan tüm okuyucuların snapshot'ını yeniden kurar. */
+    public static void refreshAll() {
+        BY_ENV.values().forEach(ConfigReader::refresh);
     }
 
     public ConfigReader(String env) {
         this.env = (env == null || env.isBlank()) ? DEFAULT_ENV : env.trim();
+        this.snapshot = load(this.env);
+    }
+
+    /** Dosyaları, System property'leri ve ortam değişkenlerini yeniden okur; önbellekler sıfırlanır. */
+    public void refresh() {
+        this.snapshot = load(env);
+    }
+
+    private static Snapshot load(String env) {
+        Properties props = new Properties();
         loadInto(props, DEFAULT_FILE, false);
-        loadInto(props, "config/" + this.env + ".properties", true);
+        loadInto(props, "config/" + env + ".properties", true);
+        return new Snapshot(props, System.getProperties(), System.getenv());
     }
 
     private static void loadInto(Properties target, String resourcePath, boolean required) {
@@ -54,8 +82,11 @@ public class ConfigReader {
     }
 
     public String get(String key) {
-        String raw = rawGet(key);
-        return nonBlank(raw) ? resolvePlaceholders(raw) : null;
+        Snapshot snap = snapshot;
+        return snap.resolved.computeIfAbsent(key, k -> {
+            String raw = snap.raw(k);
+            return nonBlank(raw) ? Optional.of(resolvePlaceholders(snap, raw)) : Optional.empty();
+        }).orElse(null);
     }
 
     public String get(String key, String def) {
@@ -70,72 +101,74 @@ public class ConfigReader {
     }
 
     public int getInt(String key, int def) {
-        String v = get(key);
-        if (!nonBlank(v)) return def;
-        try { return Integer.parseInt(v.trim()); }
-        catch (NumberFormatException e) { throw new IllegalArgumentException("Invalid int for '" + key + "': " + v, e); }
+        Optional<Integer> v = typed("int", key, s -> {
+            try { return Integer.parseInt(s.trim()); }
+            catch (NumberFormatException e) { throw new IllegalArgumentException("Invalid int for '" + key + "': " + s, e); }
+        });
+        return v.orElse(def);
     }
 
     public long getLong(String key, long def) {
-        String v = get(key);
-        if (!nonBlank(v)) return def;
-        try { return Long.parseLong(v.trim()); }
-        catch (NumberFormatException e) { throw new IllegalArgumentException("Invalid long for '" + key + "': " + v, e); }
+        Optional<Long> v = typed("long", key, s -> {
+            try { return Long.parseLong(s.trim()); }
+            catch (NumberFormatException e) { throw new IllegalArgumentException("Invalid long for '" + key + "': " + s, e); }
+        });
+        return v.orElse(def);
     }
 
     public double getDouble(String key, double def) {
-        String v = get(key);
-        if (!nonBlank(v)) return def;
-        try { return Double.parseDouble(v.trim()); }
-        catch (NumberFormatException e) { throw new IllegalArgumentException("Invalid double for '" + key + "': " + v, e); }
+        Optional<Double> v = typed("double", key, s -> {
+            try { return Double.parseDouble(s.trim()); }
+            catch (NumberFormatException e) { throw new IllegalArgumentException("Invalid double for '" + key + "': " + s, e); }
+        });
+        return v.orElse(def);
     }
 
     public boolean getBoolean(String key, boolean def) {
-        String v = get(key);
-        if (!nonBlank(v)) return def;
-        String s = v.trim().toLowerCase(Locale.ROOT);
-        switch (s) {
-            case "true": case "1": case "yes": case "y": case "on":  return true;
-            case "false": case "0": case "no": case "n": case "off": return false;
-            default: throw new IllegalArgumentException("Invalid boolean for '" + key + "': " + v);
-        }
+        Optional<Boolean> v = typed("boolean", key, s -> {
+            switch (s.trim().toLowerCase(Locale.ROOT)) {
+                case "true": case "1": case "yes": case "y": case "on":  return true;
+                case "false": case "0": case "no": case "n": case "off": return false;
+                default: throw new IllegalArgumentException("Invalid boolean for '" + key + "': " + s);
+            }
+        });
+        return v.orElse(def);
     }
 
     public Duration getDuration(String key, Duration def) {
-        String v = get(key);
-        if (!nonBlank(v)) return def;
-        return parseDuration(v.trim(), key);
+        Optional<Duration> v = typed("duration", key, s -> parseDuration(s.trim(), key));
+        return v.orElse(def);
     }
 
     public List<String> getList(String key) {
-        String v = get(key);
-        if (!nonBlank(v)) return Collections.emptyList();
-        String[] tokens = v.split("[,;]");
-        List<String> out = new ArrayList<>(tokens.length);
-        for (String t : tokens) {
-            String s = t.trim();
-            if (!s.isEmpty()) out.add(s);
-        }
-        return Collections.unmodifiableList(out);
+        Optional<List<String>> v = typed("list", key, s -> {
+            String[] tokens = LIST_SEPARATOR.split(s);
+            List<String> out = new ArrayList<>(tokens.length);
+            for (String t : tokens) {
+                String x = t.trim();
+                if (!x.isEmpty()) out.add(x);
+            }
+            return Collections.unmodifiableList(out);
+        });
+        return v.orElse(Collections.emptyList());
     }
 
     public Map<String, String> byPrefix(String prefix, boolean stripPrefix) {
         Objects.requireNonNull(prefix, "prefix");
-        Map<String, String> map = new LinkedHashMap<>();
-        Set<String> keys = new LinkedHashSet<>();
-        props.stringPropertyNames().forEach(keys::add);
-        System.getProperties().stringPropertyNames().forEach(keys::add);
-
-        for (String k : keys) {
-            if (k.startsWith(prefix)) {
-                String v = get(k);
-                if (v != null) {
-                    String mk = stripPrefix ? k.substring(prefix.length()) : k;
-                    map.put(mk, v);
-                }
-            }
-        }
-        return Collections.unmodifiableMap(map);
+        Snapshot snap = snapshot;
+        @SuppressWarnings("unchecked")
+        Map<String, String> cached = (Map<String, String>) snap.typed.computeIfAbsent(
+                "prefix:" + stripPrefix + ":" + prefix, k -> {
+                    Map<String, String> map = new LinkedHashMap<>();
+                    for (String key : snap.keys) {
+                        if (key.startsWith(prefix)) {
+                            String v = get(key);
+                            if (v != null) map.put(stripPrefix ? key.substring(prefix.length()) : key, v);
+                        }
+                    }
+                    return Collections.unmodifiableMap(map);
+                });
+        return cached;
     }
 
     public String env() { return env; }
@@ -146,23 +179,21 @@ public class ConfigReader {
                 DEFAULT_FILE + ", config/" + env + ".properties, system, env]}";
     }
 
-    private String rawGet(String key) {
-        String val = System.getProperty(key);
-        if (nonBlank(val)) return val;
-
-        val = props.getProperty(key);
-        if (nonBlank(val)) return val;
-
-        String envKey = key.replace('.', '_').toUpperCase(Locale.ROOT);
-        val = System.getenv(envKey);
-        return nonBlank(val) ? val : null;
+    /** Çözümlenmiş değeri {@code parser} ile dönüştürüp (tip, anahtar) başına önbelleğe alır. */
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> typed(String type, String key, Function<String, T> parser) {
+        Snapshot snap = snapshot;
+        return (Optional<T>) snap.typed.computeIfAbsent(type + ":" + key, k -> {
+            String v = get(key);
+            return nonBlank(v) ? Optional.of(parser.apply(v)) : Optional.empty();
+        });
     }
 
-    private String resolvePlaceholders(String input) {
-        return resolvePlaceholders(input, new HashSet<>(), 0);
+    private static String resolvePlaceholders(Snapshot snap, String input) {
+        return resolvePlaceholders(snap, input, new HashSet<>(), 0);
     }
 
-    private String resolvePlaceholders(String input, Set<String> chain, int depth) {
+    private static String resolvePlaceholders(Snapshot snap, String input, Set<String> chain, int depth) {
         if (input == null || input.indexOf('$') < 0) return input;
         if (depth > MAX_PLACEHOLDER_DEPTH) {
             throw new IllegalStateException("Placeholder resolution too deep (possible cycle): " + input);
@@ -180,12 +211,12 @@ public class ConfigReader {
                 throw new IllegalStateException("Circular placeholder detected: " + chain + " → " + key);
             }
 
-            String repRaw = rawGet(key);
+            String repRaw = snap.raw(key);
             if (repRaw == null) {
                 throw new IllegalStateException("Unresolved placeholder: ${" + key + "}");
             }
 
-            String rep = resolvePlaceholders(repRaw, chain, depth + 1);
+            String rep = resolvePlaceholders(snap, repRaw, chain, depth + 1);
             chain.remove(key);
 
             sb.append(rep);
@@ -194,7 +225,7 @@ public class ConfigReader {
         sb.append(input, last, input.length());
         String out = sb.toString();
 
-        return (out.indexOf('$') >= 0) ? resolvePlaceholders(out, chain, depth + 1) : out;
+        return (out.indexOf('$') >= 0) ? resolvePlaceholders(snap, out, chain, depth + 1) : out;
     }
 
     private static boolean nonBlank(String s) { return s != null && !s.trim().isEmpty(); }
@@ -216,4 +247,42 @@ public class ConfigReader {
         try { return Duration.parse(value); }
         catch (Exception e) { throw new IllegalArgumentException("Invalid duration for '" + keyForError + "': " + value, e); }
     }
+
+    /**
+     * Yükleme anındaki kaynakların değişmez birleşimi ve çözümlenmiş değer önbellekleri.
+     * Ortam değişkenleri yalnızca sorulan anahtar için (FOO_BAR biçiminde) bakılır.
+     */
+    private static final class Snapshot {
+        final Map<String, String> values;
+        final Map<String, String> envVars;
+        final List<String> keys;
+        final ConcurrentMap<String, Optional<String>> resolved = new ConcurrentHashMap<>();
+        final ConcurrentMap<String, Object> typed = new ConcurrentHashMap<>();
+
+        Snapshot(Properties files, Properties system, Map<String, String> envVars) {
+            Map<String, String> merged = new HashMap<>();
+            Set<String> names = new LinkedHashSet<>();
+            for (String k : files.stringPropertyNames()) {
+                names.add(k);
+                String v = files.getProperty(k);
+                if (nonBlank(v)) merged.put(k, v);
+            }
+            for (String k : system.stringPropertyNames()) {
+                names.add(k);
+                String v = system.getProperty(k);
+                if (nonBlank(v)) merged.put(k, v);
+            }
+            this.values = Map.copyOf(merged);
+            this.envVars = Map.copyOf(envVars);
+            this.keys = List.copyOf(names);
+        }
+
+        /** System → dosyalar → ortam değişkeni önceliğiyle ham değer. */
+        String raw(String key) {
+            String val = values.get(key);
+            if (val != null) return val;
+            val = envVars.get(key.replace('.', '_').toUpperCase(Locale.ROOT));
+            return nonBlank(val) ? val : null;
+        }
+    }
 }
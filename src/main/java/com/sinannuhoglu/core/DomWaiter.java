@@ -0,0 +1,160 @@
+package com.sinannuhoglu.core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DomWaiter
+ * <p>
+ * Sayfaya {@code executeAsyncScript} ile bir MutationObserver enjekte ederek DOM koşullarını
+ * tarayıcı içinde bekler. Koşul (eleman var / görünür / tıklanabilir / kayboldu) DOM değiştikçe
+ * yerinde değerlendirilir; WebDriverWait'in her poll'da yaptığı tam WebDriver gidiş-dönüşü yerine
+ * tek bir çağrı yeterli olur.
+ * <p>
+ * Notlar:
+ * <ul>
+ *   <li>Uzun beklemeler, sürücünün script timeout'unu aşmamak için {@value #CHUNK_MS} ms'lik dilimlerle yapılır.</li>
+ *   <li>Yalnızca css/xpath/tag name'e çevrilebilen locator'lar desteklenir (By.id, name, className css'e dönüşür);
+ *       diğerlerinde {@link UnsupportedOperationException} atılır ve çağıran WebDriverWait'e döner.</li>
+ *   <li>Süre dolarsa WebDriverWait ile aynı şekilde {@link TimeoutException} atılır.</li>
+ * </ul>
+ * Ayar: {@code selenium.domWaits.enabled} (default: true) ya da {@code -DdomWaits=false}.
+ */
+public final class DomWaiter {
+
+    /** Beklenen DOM koşulu. */
+    public enum Condition { PRESENT, VISIBLE, CLICKABLE, GONE }
+
+    static final long CHUNK_MS = 10_000L;
+
+    private static final String SCRIPT =
+            "var qs=arguments[0],mode=arguments[1],target=arguments[2],timeout=arguments[3],done=arguments[arguments.length-1];" +
+            "function vis(el){if(!el||!el.isConnected)return false;var s=window.getComputedStyle(el);" +
+            " if(s.display==='none'||s.visibility==='hidden'||s.visibility==='collapse'||parseFloat(s.opacity)===0)return false;" +
+            " var r=el.getBoundingClientRect();return r.width>0&&r.height>0;}" +
+            "function all(q){if(q.using==='xpath'){var r=document.evaluate(q.value,document,null,XPathResult.ORDERED_NODE_SNAPSHOT_TYPE,null),a=[];" +
+            " for(var i=0;i<r.snapshotLength;i++){var n=r.snapshotItem(i);if(n.nodeType===1)a.push(n);}return a;}" +
+            " return Array.prototype.slice.call(document.querySelectorAll(q.value));}" +
+            "function check(){" +
+            " if(target)return vis(target)?null:true;" +
+            " if(mode==='GONE'){for(var i=0;i<qs.length;i++){var g=all(qs[i]);if(g.length&&vis(g[0]))return null;}return true;}" +
+            " for(var k=0;k<qs.length;k++){var a=all(qs[k]);for(var j=0;j<a.length;j++){var el=a[j];" +
+            "  if(mode==='PRESENT')return el;if(vis(el)&&(mode!=='CLICKABLE'||!el.disabled))return el;}}" +
+            " return null;}" +
+            "var first=check();if(first){done(first);return;}" +
+            "var finished=false,pending=false,obs,iv,to;" +
+            "function finish(v){if(finished)return;finished=true;try{obs.disconnect();}catch(e){}clearInterval(iv);clearTimeout(to);done(v);}" +
+            "function run(){pending=false;if(finished)return;try{var r=check();if(r)finish(r);}catch(e){finish({error:String(e)});}}" +
+            "obs=new MutationObserver(function(){if(!pending){pending=true;setTimeout(run,0);}});" +
+            "obs.observe(document.documentElement||document,{childList:true,subtree:true,attributes:true," +
+            " attributeFilter:['style','class','hidden','disabled','aria-hidden','open']});" +
+            "iv=setInterval(run,100);" +
+            "to=setTimeout(function(){finish({timeout:true});},timeout);";
+
+    private final WebDriver driver;
+
+    private DomWaiter(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static DomWaiter of(WebDriver driver) {
+        return new DomWaiter(driver);
+    }
+
+    /** Olay tabanlı bekleme etkin mi? */
+    public static boolean isEnabled() {
+        String sys = System.getProperty("domWaits");
+        if (sys != null && !sys.isBlank()) return Boolean.parseBoolean(sys.trim());
+        ConfigReader cfg = TestContext.get().cfg();
+        return cfg == null || cfg.getBoolean("selenium.domWaits.enabled", true);
+    }
+
+    /**
+     * Locator'lardan herhangi biri koşulu sağlayana kadar bekler (sıra önceliklidir).
+     * @return koşulu sağlayan ilk eleman; {@link Condition#GONE} için null
+     * @throws TimeoutException süre dolarsa
+     * @throws UnsupportedOperationException locator çevrilemez ya da script çalıştırılamazsa
+     */
+    public WebElement await(Condition condition, Duration timeout, By... locators) {
+        List<Map<String, String>> queries = new ArrayList<>();
+        for (By by : locators) queries.add(query(by));
+        return run(queries, condition, null, timeout, Arrays.toString(locators));
+    }
+
+    /**
+     * Elemanın görünmez olmasını ya da DOM'dan ayrılmasını bekler.
+     * @throws TimeoutException süre dolarsa
+     */
+    public void awaitGone(WebElement element, Duration timeout) {
+        try {
+            run(List.of(), Condition.GONE, element, timeout, String.valueOf(element));
+        } catch (StaleElementReferenceException ignored) {
+            // eleman zaten DOM'dan ayrılmış
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // İç yardımcılar
+    // ---------------------------------------------------------------------
+
+    private WebElement run(List<Map<String, String>> queries, Condition condition, WebElement target,
+                           Duration timeout, String describe) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            long remainingMs = Math.max(0, (deadline - System.nanoTime()) / 1_000_000L);
+            Object r;
+            try {
+                r = ((JavascriptExecutor) driver).executeAsyncScript(
+                        SCRIPT, queries, condition.name(), target, Math.min(remainingMs, CHUNK_MS));
+            } catch (ScriptTimeoutException e) {
+                r = null;
+            } catch (JavascriptException e) {
+                // Bekleme sırasında sayfa değişti: yeni doküman üzerinde sürdür.
+                if (!String.valueOf(e.getMessage()).contains("unload")) {
+                    throw new UnsupportedOperationException("DomWaiter script hatası: " + e.getMessage(), e);
+                }
+                r = null;
+            }
+
+            if (r instanceof WebElement el) return el;
+            if (Boolean.TRUE.equals(r)) return null;
+            if (r instanceof Map<?, ?> m && m.containsKey("error")) {
+                throw new UnsupportedOperationException("DomWaiter script hatası: " + m.get("error"));
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new TimeoutException("DOM koşulu sağlanmadı (" + condition + ", "
+                        + timeout.toSeconds() + " sn): " + describe);
+            }
+        }
+    }
+
+    /** By → {using, value}; yalnızca css ve xpath tarayıcıda çözülür. */
+    static Map<String, String> query(By by) {
+        if (by instanceof By.Remotable remotable) {
+            By.Remotable.Parameters p = remotable.getRemoteParameters();
+            String value = String.valueOf(p.value());
+            switch (p.using()) {
+                case "css selector":
+                case "tag name":
+                    return Map.of("using", "css", "value", value);
+                case "xpath":
+                    return Map.of("using", "xpath", "value", value);
+                default:
+                    break;
+            }
+        }
+        throw new UnsupportedOperationException("DomWaiter locator desteklemiyor: " + by);
+    }
+}
@@ -1,17 +1,26 @@
 package com.sinannuhoglu.core;
 
+import com.sinannuhoglu.perf.CommandTrace;
+import com.sinannuhoglu.perf.FlightRecorder;
+import com.sinannuhoglu.perf.ProfilingListener;
+import com.sinannuhoglu.perf.WebVitals;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.Augmenter;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -20,9 +29,23 @@ import java.util.Map;
  * <p>
  * Tek noktadan WebDriver üretimi (lokal ChromeDriver veya Grid/Remote).
  * Ayarlar: System properties → config → güvenli varsayılanlar.
+ * <p>
+ * {@code selenium.profile.enabled} (ya da {@code -Dprofile=true}) ile sürücü, komutları senaryo
+ * profiline işleyen {@link ProfilingListener} ile, {@code selenium.trace.enabled} (ya da {@code -Dtrace=true})
+ * ile komut histogramlarını tutan {@link CommandTrace} ile sarılır. Hata ayıklama için {@link FlightRecorder}
+ * varsayılan olarak açıktır ({@code selenium.flightRecorder.enabled=false} ile kapatılır).
+ * {@code selenium.vitals.enabled} (ya da {@code -Dvitals=true}) sayfa geçişlerinde {@link WebVitals} ölçer.
+ * <p>
+ * {@code selenium.network.tracking.enabled} (ya da {@code -DnetworkTracking=true}) ile sarmalamadan önce
+ * CDP ağ izleyicisi ({@link NetworkTracker}) bağlanır; {@code selenium.block.enabled} / {@code selenium.assetCache.enabled}
+ * ile istek engelleme ve statik paket önbelleği ({@link InterceptionProfile}) kurulur. Grid'de sürücü önce
+ * {@link Augmenter} ile genişletilir. {@code selenium.diskCache.enabled} ile lokal Chrome, oturumlar arası
+ * paylaşılan sürümlü disk önbelleğiyle ({@link BrowserDiskCache}) başlar.
  */
 public final class DriverFactory {
 
+    private static volatile boolean chromedriverReady;
+
     private DriverFactory() {}
 
     public static WebDriver create() {
@@ -98,23 +121,80 @@ public final class DriverFactory {
             opts.setExperimentalOption("prefs", prefs);
         }
 
-        WebDriver driver = (gridEnabled && nonBlank(gridUrl))
-                ? new RemoteWebDriver(toUrl(gridUrl), opts)
-                : createLocalChrome(opts);
+        boolean grid = gridEnabled && nonBlank(gridUrl);
+        BrowserDiskCache.Slot cacheSlot = grid ? null : BrowserDiskCache.configure(opts, cfg);
+
+        WebDriver driver;
+        try {
+            driver = grid ? new RemoteWebDriver(toUrl(gridUrl), opts) : createLocalChrome(opts);
+        } catch (RuntimeException e) {
+            BrowserDiskCache.release(cacheSlot);
+            throw e;
+        }
 
         driver.manage().timeouts().implicitlyWait(Duration.ZERO);
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeoutSec));
         driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(fastMode ? 15 : 30));
         try { driver.manage().window().setSize(windowSize); } catch (Exception ignored) {}
 
-        return driver;
+        boolean intercept = InterceptionProfile.isEnabled(cfg);
+        boolean track = NetworkTracker.isEnabled(cfg);
+        if ((intercept || track) && driver instanceof RemoteWebDriver && !(driver instanceof ChromeDriver)) {
+            try { driver = new Augmenter().augment(driver); } catch (RuntimeException ignored) {}
+        }
+        if (intercept) InterceptionProfile.apply(driver, cfg);
+        NetworkTracker tracker = track ? NetworkTracker.attach(driver, cfg) : null;
+
+        BrowserDiskCache.bind(driver, cacheSlot);
+
+        WebDriver decorated = decorate(driver, cfg);
+        NetworkTracker.register(decorated, tracker);
+        BrowserDiskCache.register(decorated, cacheSlot);
+        return decorated;
+    }
+
+    /** Etkin dinleyiciler varsa sürücüyü EventFiringDecorator ile sarar. */
+    private static WebDriver decorate(WebDriver driver, ConfigReader cfg) {
+        List<WebDriverListener> listeners = new ArrayList<>();
+        FlightRecorder recorder = null;
+        if (cfg.getBoolean("selenium.flightRecorder.enabled", true)) {
+            recorder = new FlightRecorder(driver, cfg.getInt("selenium.flightRecorder.capacity", 200),
+                    cfg.getBoolean("selenium.flightRecorder.outlineOnClick", false));
+            listeners.add(recorder);
+        }
+        if (pickBoolean("profile", cfg.getBoolean("selenium.profile.enabled", false))) {
+            listeners.add(new ProfilingListener());
+        }
+        if (pickBoolean("trace", cfg.getBoolean("selenium.trace.enabled", false))) {
+            listeners.add(new CommandTrace(cfg.getInt("selenium.trace.hotspotCommands", 200)));
+        }
+        WebVitals vitals = null;
+        if (pickBoolean("vitals", cfg.getBoolean("selenium.vitals.enabled", false))) {
+            vitals = new WebVitals(driver);
+            listeners.add(vitals);
+        }
+        if (listeners.isEmpty()) return driver;
+        WebDriver decorated = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+        FlightRecorder.register(decorated, recorder);
+        WebVitals.register(decorated, vitals);
+        return decorated;
     }
 
     private static WebDriver createLocalChrome(ChromeOptions opts) {
-        WebDriverManager.chromedriver().setup();
+        ensureChromedriver();
         return new ChromeDriver(opts);
     }
 
+    /** WebDriverManager çözümlemesini süreç başına bir kez yapar. */
+    private static void ensureChromedriver() {
+        if (chromedriverReady) return;
+        synchronized (DriverFactory.class) {
+            if (chromedriverReady) return;
+            WebDriverManager.chromedriver().setup();
+            chromedriverReady = true;
+        }
+    }
+
     private static URL toUrl(String s) {
         try { return new URL(s); }
         catch (MalformedURLException e) { throw new IllegalArgumentException("Geçersiz Grid URL: " + s, e); }
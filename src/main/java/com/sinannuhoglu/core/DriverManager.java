@@ -49,6 +49,7 @@ public final class DriverManager {
         } catch (Throwable ignored) {
 
         } finally {
+            BrowserDiskCache.release(d);
             TL.remove();
         }
     }
@@ -0,0 +1,273 @@
+package com.sinannuhoglu.core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DriverPool
+ * <p>
+ * Önceden açılmış (warm) tarayıcı oturumlarını senaryolar arasında yeniden kullanır.
+ * Senaryo oturumu {@link #checkout()} ile alır, {@link #release(WebDriver)} ile geri verir;
+ * geri dönen oturum çerezler, local/session storage ve fazla sekmelerden temizlenir.
+ * <p>
+ * Ayarlar (ConfigReader):
+ * <pre>
+ *   selenium.pool.enabled         (default: false)
+ *   selenium.pool.size            (default: 2)   eşzamanlı en fazla oturum
+ *   selenium.pool.warmup          (default: 1)   ilk erişimde arka planda açılan oturum
+ *   selenium.pool.maxRecycles     (default: 25)  bir oturumun en fazla geri dönüşüm sayısı
+ *   selenium.pool.checkoutTimeout (default: 120s)
+ * </pre>
+ * Sağlıksız (cevap vermeyen) ya da geri dönüşüm sınırına ulaşan oturumlar kapatılıp havuzdan düşülür.
+ */
+public final class DriverPool {
+
+    private static volatile DriverPool instance;
+    private static final long WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final int maxSize;
+    private final int maxRecycles;
+    private final Duration checkoutTimeout;
+
+    private final Semaphore capacity;
+    private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, Session> sessions = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static final class Session {
+        final long createdAt = System.currentTimeMillis();
+        int recycles;
+    }
+
+    private DriverPool(ConfigReader cfg) {
+        this(cfg, cfg.getInt("selenium.pool.size", 2), cfg.getInt("selenium.pool.warmup", 1));
+    }
+
+    private DriverPool(ConfigReader cfg, int size, int warmup) {
+        this.maxSize = Math.max(1, size);
+        this.maxRecycles = Math.max(1, cfg.getInt("selenium.pool.maxRecycles", 25));
+        this.checkoutTimeout = cfg.getDuration("selenium.pool.checkoutTimeout", Duration.ofSeconds(120));
+        this.capacity = new Semaphore(maxSize);
+
+        warmUp(Math.min(maxSize, Math.max(0, warmup)));
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    /** Havuz etkin mi? */
+    public static boolean isEnabled(ConfigReader cfg) {
+        return cfg != null && cfg.getBoolean("selenium.pool.enabled", false);
+    }
+
+    /** Süreç genelindeki tekil havuz (ilk erişimde ısıtma başlar). */
+    public static DriverPool get() {
+        DriverPool p = instance;
+        if (p == null) {
+            synchronized (DriverPool.class) {
+                p = instance;
+                if (p == null) instance = p = new DriverPool(ConfigReader.fromEnvironment());
+            }
+        }
+        return p;
+    }
+
+    /**
+     * Yeniden deneme turu ("pooled rerun") için havuz. Havuz henüz yoksa (config'te kapalı) yeniden koşulacak
+     * senaryo sayısına göre boyutlanır ({@code selenium.pool.size} üst sınır) ve tek oturum ısıtılır; ilk turun
+     * sürücüleri kapatılmış olduğundan bu, ikinci tur içinde paylaşılan yeni bir tarayıcıdır.
+     */
+    public static DriverPool forRerun(int scenarios) {
+        synchronized (DriverPool.class) {
+            if (instance == null) {
+                ConfigReader cfg = ConfigReader.fromEnvironment();
+                int size = Math.min(Math.max(1, scenarios), Math.max(1, cfg.getInt("selenium.pool.size", 2)));
+                instance = new DriverPool(cfg, size, 1);
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Boşta bir oturum verir; yoksa kapasite varsa yenisini açar, yoksa geri dönüş bekler.
+     * Verilen oturum sağlık kontrolünden geçmiştir.
+     */
+    public WebDriver checkout() {
+        long deadline = System.nanoTime() + checkoutTimeout.toNanos();
+        while (true) {
+            WebDriver d = idle.pollFirst();
+            if (d == null && capacity.tryAcquire()) {
+                return open();
+            }
+            if (d == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("DriverPool: " + checkoutTimeout.toSeconds()
+                            + " sn içinde boş oturum bulunamadı (size=" + maxSize + ").");
+                }
+                // kısa dilimler: düşülen (discard) oturumun boşalttığı kapasite de bir sonraki turda görülür
+                try {
+                    d = idle.pollFirst(Math.min(remaining, WAIT_SLICE_NANOS), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("DriverPool checkout kesildi.", e);
+                }
+                if (d == null) continue;
+            }
+            if (isHealthy(d)) return d;
+            discard(d, "sağlıksız");
+        }
+    }
+
+    /**
+     * Oturumu havuza iade eder. Havuza ait olmayan sürücüler doğrudan kapatılır.
+     * Temizlik başarısızsa ya da geri dönüşüm sınırı aşıldıysa oturum düşülür.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) return;
+        Session s = sessions.get(driver);
+        if (s == null) {
+            quietQuit(driver);
+            return;
+        }
+        s.recycles++;
+        if (s.recycles >= maxRecycles) {
+            discard(driver, "geri dönüşüm sınırı (" + s.recycles + ")");
+            return;
+        }
+        if (!reset(driver) || !isHealthy(driver)) {
+            discard(driver, "temizlik başarısız");
+            return;
+        }
+        idle.offerFirst(driver);
+    }
+
+    /** Oturum havuza ait mi? */
+    public boolean owns(WebDriver driver) {
+        return driver != null && sessions.containsKey(driver);
+    }
+
+    /** Oturumun kaç kez geri dönüştürüldüğü (havuz dışı ise -1). */
+    public int recycleCount(WebDriver driver) {
+        Session s = sessions.get(driver);
+        return s == null ? -1 : s.recycles;
+    }
+
+    /** Boştaki tüm oturumları kapatır (kullanımdakiler iade edildiğinde yeniden açılır). */
+    public void drainIdle() {
+        WebDriver d;
+        while ((d = idle.pollFirst()) != null) discard(d, "drain");
+    }
+
+    @Override
+    public String toString() {
+        return "DriverPool{size=" + maxSize + ", live=" + sessions.size() + ", idle=" + idle.size()
+                + ", maxRecycles=" + maxRecycles + "}";
+    }
+
+    // ---------------------------------------------------------------------
+    // İç yardımcılar
+    // ---------------------------------------------------------------------
+
+    private WebDriver open() {
+        try {
+            WebDriver d = DriverFactory.create();
+            sessions.put(d, new Session());
+            return d;
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    private void warmUp(int count) {
+        if (count <= 0) return;
+        ExecutorService ex = Executors.newFixedThreadPool(count, r -> {
+            Thread t = new Thread(r, "driver-pool-warmup");
+            t.setDaemon(true);
+            return t;
+        });
+        for (int i = 0; i < count; i++) {
+            ex.submit(() -> {
+                if (!capacity.tryAcquire()) return;
+                try {
+                    idle.offerLast(open());
+                } catch (RuntimeException e) {
+                    System.out.println("[DriverPool] Warm-up başarısız: " + e.getMessage());
+                }
+            });
+        }
+        ex.shutdown();
+    }
+
+    /** Çerez, storage ve fazla sekmeleri temizler; about:blank'e döner. */
+    private static boolean reset(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            List<String> list = new ArrayList<>(handles);
+            String keep = list.get(0);
+            for (String h : list.subList(1, list.size())) {
+                driver.switchTo().window(h);
+                driver.close();
+            }
+            driver.switchTo().window(keep);
+
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try{window.localStorage.clear();}catch(e){} try{window.sessionStorage.clear();}catch(e){}");
+            } catch (Exception ignored) {}
+            driver.manage().deleteAllCookies();
+            if (driver instanceof HasCdp cdp) {
+                try { cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of()); } catch (Exception ignored) {}
+            }
+            driver.navigate().to("about:blank");
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            Object r = ((JavascriptExecutor) driver).executeScript("return 1;");
+            return r != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void discard(WebDriver driver, String reason) {
+        Session s = sessions.remove(driver);
+        quietQuit(driver);
+        if (s != null) {
+            capacity.release();
+            System.out.println("[DriverPool] Oturum düşüldü (" + reason + "), recycles=" + s.recycles
+                    + ", yaş=" + (System.currentTimeMillis() - s.createdAt) / 1000 + " sn");
+        }
+    }
+
+    private void shutdown() {
+        List<WebDriver> all;
+        synchronized (sessions) { all = new ArrayList<>(sessions.keySet()); }
+        idle.clear();
+        for (WebDriver d : all) quietQuit(d);
+        sessions.clear();
+    }
+
+    private static void quietQuit(WebDriver driver) {
+        try { driver.quit(); } catch (Throwable ignored) {}
+        BrowserDiskCache.release(driver);
+    }
+}
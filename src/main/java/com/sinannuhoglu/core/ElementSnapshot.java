@@ -0,0 +1,116 @@
+package com.sinannuhoglu.core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ElementSnapshot
+ * <p>
+ * Bir locator'ın tüm eşleşmelerinin tek {@code executeScript} ile alınmış değişmez görüntüsü:
+ * etiket, görünür metin, istenen attribute'lar, sayfa koordinatlarında dikdörtgen ve görünürlük.
+ * Eleman başına isDisplayed/getAttribute/getText/getRect gidiş-dönüşleri yerine filtre Java'da yapılır;
+ * tıklama gibi işlemler için {@link #element()} referansı taşınır.
+ * <p>
+ * İsteğe bağlı {@code child} locator'ı verilirse her eşleşmenin görünür alt elemanlarının metinleri
+ * {@link #childTexts()} içinde döner (ör. chip içeriği, liste öğesindeki span'ler).
+ * Görünmeyen elemanların metni, {@link WebElement#getText()} gibi boş döner.
+ * css/xpath'e çevrilemeyen locator'larda elemanlar findElements ile bulunup aynı script'e verilir.
+ */
+public record ElementSnapshot(WebElement element,
+                              String tag,
+                              String text,
+                              Map<String, String> attributes,
+                              Rectangle rect,
+                              boolean displayed,
+                              List<String> childTexts) {
+
+    private static final String SCRIPT =
+            "var root=arguments[0]||document,q=arguments[1],els=arguments[2],child=arguments[3],names=arguments[4];" +
+            "function vis(el){if(!el||!el.isConnected)return false;var s=window.getComputedStyle(el);" +
+            " if(s.display==='none'||s.visibility==='hidden'||s.visibility==='collapse'||parseFloat(s.opacity)===0)return false;" +
+            " var r=el.getBoundingClientRect();return r.width>0&&r.height>0;}" +
+            "function all(q,ctx){if(q.using==='xpath'){var r=document.evaluate(q.value,ctx,null,XPathResult.ORDERED_NODE_SNAPSHOT_TYPE,null),a=[];" +
+            " for(var i=0;i<r.snapshotLength;i++){var n=r.snapshotItem(i);if(n.nodeType===1)a.push(n);}return a;}" +
+            " return Array.prototype.slice.call(ctx.querySelectorAll(q.value));}" +
+            "var list=q?all(q,root):els,out=[];" +
+            "for(var i=0;i<list.length;i++){var el=list[i],d=vis(el),r=el.getBoundingClientRect(),a={},c=[];" +
+            " for(var k=0;k<names.length;k++)a[names[k]]=el.getAttribute(names[k]);" +
+            " if(child&&d){var cs=all(child,el);for(var j=0;j<cs.length;j++)if(vis(cs[j]))c.push(cs[j].innerText||'');}" +
+            " out.push({el:el,tag:el.tagName.toLowerCase(),text:d?(el.innerText||''):'',attrs:a," +
+            "  x:r.left+window.scrollX,y:r.top+window.scrollY,w:r.width,h:r.height,displayed:d,children:c});}" +
+            "return out;";
+
+    /** Attribute değeri (istenmemiş ya da elemanda yoksa null). */
+    public String attr(String name) {
+        return attributes.get(name);
+    }
+
+    /** Görünür ve yüksekliği sıfırdan büyük mü? */
+    public boolean visible() {
+        return displayed && rect.getHeight() > 0;
+    }
+
+    /** Belgede locator'ın tüm eşleşmeleri. */
+    public static List<ElementSnapshot> take(WebDriver driver, By by, String... attributes) {
+        return take(driver, null, by, null, attributes);
+    }
+
+    /**
+     * {@code root} altında (null ise belgede) locator'ın tüm eşleşmelerini tek script ile okur.
+     * @param child      verilirse her eşleşmenin görünür alt elemanlarının metni toplanır (null olabilir)
+     * @param attributes okunacak attribute adları
+     */
+    public static List<ElementSnapshot> take(WebDriver driver, WebElement root, By by, By child, String... attributes) {
+        Map<String, String> q = translate(by);
+        List<WebElement> elements = Collections.emptyList();
+        if (q == null) {
+            SearchContext ctx = root != null ? root : driver;
+            elements = ctx.findElements(by);
+            if (elements.isEmpty()) return Collections.emptyList();
+        }
+        Map<String, String> childQ = child == null ? null : DomWaiter.query(child);
+        Object r = ((JavascriptExecutor) driver).executeScript(
+                SCRIPT, root, q, elements, childQ, Arrays.asList(attributes));
+        List<ElementSnapshot> out = new ArrayList<>();
+        if (r instanceof List<?> list) {
+            for (Object o : list) out.add(from((Map<?, ?>) o));
+        }
+        return Collections.unmodifiableList(out);
+    }
+
+    // ---------------------------------------------------------------------
+
+    private static Map<String, String> translate(By by) {
+        try {
+            return DomWaiter.query(by);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static ElementSnapshot from(Map<?, ?> m) {
+        Map<String, String> attrs = new HashMap<>();
+        ((Map<?, ?>) m.get("attrs")).forEach((k, v) -> attrs.put(String.valueOf(k), v == null ? null : String.valueOf(v)));
+        List<String> children = new ArrayList<>();
+        for (Object c : (List<?>) m.get("children")) children.add(String.valueOf(c));
+        Rectangle rect = new Rectangle(num(m.get("x")), num(m.get("y")), num(m.get("h")), num(m.get("w")));
+        return new ElementSnapshot((WebElement) m.get("el"), String.valueOf(m.get("tag")), String.valueOf(m.get("text")),
+                Collections.unmodifiableMap(attrs), rect, Boolean.TRUE.equals(m.get("displayed")),
+                Collections.unmodifiableList(children));
+    }
+
+    private static int num(Object o) {
+        return o instanceof Number n ? (int) Math.round(n.doubleValue()) : 0;
+    }
+}
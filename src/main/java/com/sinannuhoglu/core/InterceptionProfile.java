@@ -0,0 +1,207 @@
+package com.sinannuhoglu.core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * InterceptionProfile
+ * <p>
+ * Sürücünün CDP oturumuna istek engelleme ve (isteğe bağlı) statik paket önbelleği kurar:
+ * <ul>
+ *   <li>{@code selenium.block.*} altındaki her anahtar bir kategoridir (analytics, fonts, pixels, chat …);
+ *       değeri virgülle ayrılmış {@code *} joker desenleridir. Desenler {@code Network.setBlockedURLs}
+ *       ile tarayıcıda engellenir; kategori boş değerle kapatılır.</li>
+ *   <li>{@link AssetCache} açıksa Script/Stylesheet istekleri {@code Fetch} ile yakalanır: önbellekte olan
+ *       yanıt diskten verilir ({@code Fetch.fulfillRequest}), olmayan ağdan gelince diske yazılır.</li>
+ * </ul>
+ * Olaylar/komutlar sürüm bağımsız ham CDP adlarıyla gönderilir.
+ * <p>
+ * Ayarlar (ConfigReader):
+ * <pre>
+ *   selenium.block.enabled    (default: false)  -DblockResources=true
+ *   selenium.block.&lt;kategori&gt; desen listesi (ör. selenium.block.fonts=*.woff2,*fonts.gstatic.com*)
+ * </pre>
+ * Önbellek ayarları için bkz. {@link AssetCache}.
+ */
+public final class InterceptionProfile {
+
+    private static final String PREFIX = "selenium.block.";
+
+    private static final Function<JsonInput, Map<String, Object>> AS_MAP = in -> in.read(Json.MAP_TYPE);
+
+    private final DevTools devTools;
+    private final List<Pattern> blocked;
+    private final AssetCache cache;
+
+    private InterceptionProfile(DevTools devTools, List<Pattern> blocked, AssetCache cache) {
+        this.devTools = devTools;
+        this.blocked = blocked;
+        this.cache = cache;
+    }
+
+    /** Engelleme ya da önbellek açık mı? */
+    public static boolean isEnabled(ConfigReader cfg) {
+        return blockingEnabled(cfg) || (cfg != null && cfg.getBoolean("selenium.assetCache.enabled", false));
+    }
+
+    /**
+     * Profili sürücüye uygular.
+     * @return en az bir kural kurulduysa true; DevTools yoksa ya da CDP hatasında false
+     */
+    public static boolean apply(WebDriver driver, ConfigReader cfg) {
+        List<String> patterns = blockingEnabled(cfg) ? blockedPatterns(cfg) : List.of();
+        AssetCache cache = AssetCache.open(cfg);
+        if (patterns.isEmpty() && cache == null) return false;
+        if (!(driver instanceof HasDevTools hd)) {
+            System.out.println("[InterceptionProfile] Sürücü DevTools desteklemiyor; profil uygulanmadı.");
+            return false;
+        }
+        try {
+            Optional<DevTools> maybe = hd.maybeGetDevTools();
+            if (maybe.isEmpty()) {
+                System.out.println("[InterceptionProfile] CDP bağlantısı yok; profil uygulanmadı.");
+                return false;
+            }
+            DevTools devTools = maybe.get();
+            devTools.createSessionIfThereIsNotOne();
+            if (!patterns.isEmpty()) {
+                devTools.send(new Command<Void>("Network.enable", Map.of()));
+                devTools.send(new Command<Void>("Network.setBlockedURLs", Map.of("urls", patterns)));
+            }
+            if (cache != null) {
+                List<Pattern> regexes = new ArrayList<>(patterns.size());
+                for (String p : patterns) regexes.add(glob(p));
+                InterceptionProfile profile = new InterceptionProfile(devTools, regexes, cache);
+                devTools.addListener(new Event<>("Fetch.requestPaused", AS_MAP), profile::onPaused);
+                List<Map<String, Object>> fetchPatterns = new ArrayList<>();
+                for (String type : new String[]{"Script", "Stylesheet"}) {
+                    fetchPatterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Request"));
+                    fetchPatterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Response"));
+                }
+                devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", fetchPatterns)));
+            }
+            System.out.println("[InterceptionProfile] Uygulandı: " + patterns.size() + " engel deseni"
+                    + (cache != null ? ", önbellek=" + cache : ""));
+            return true;
+        } catch (RuntimeException e) {
+            System.out.println("[InterceptionProfile] Uygulanamadı: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** {@code selenium.block.*} kategorilerindeki tüm desenler (tekrarsız, tanım sırasıyla). */
+    static List<String> blockedPatterns(ConfigReader cfg) {
+        Map<String, Boolean> out = new LinkedHashMap<>();
+        for (Map.Entry<String, String> e : cfg.byPrefix(PREFIX, true).entrySet()) {
+            if ("enabled".equals(e.getKey())) continue;
+            for (String p : e.getValue().split(",")) {
+                String t = p.trim();
+                if (!t.isEmpty()) out.put(t, Boolean.TRUE);
+            }
+        }
+        return List.copyOf(out.keySet());
+    }
+
+    // ---------------------------------------------------------------------
+
+    private static boolean blockingEnabled(ConfigReader cfg) {
+        String sys = System.getProperty("blockResources");
+        if (sys != null && !sys.isBlank()) return Boolean.parseBoolean(sys.trim());
+        return cfg != null && cfg.getBoolean(PREFIX + "enabled", false);
+    }
+
+    private void onPaused(Map<String, Object> e) {
+        String id = String.valueOf(e.get("requestId"));
+        Map<?, ?> req = e.get("request") instanceof Map<?, ?> r ? r : Map.of();
+        String url = String.valueOf(req.get("url"));
+        boolean get = "GET".equalsIgnoreCase(String.valueOf(req.get("method")));
+        boolean responseStage = e.containsKey("responseStatusCode") || e.containsKey("responseErrorReason");
+        try {
+            if (!responseStage) {
+                if (isBlocked(url)) {
+                    devTools.send(new Command<Void>("Fetch.failRequest", Map.of("requestId", id, "errorReason", "BlockedByClient")));
+                    return;
+                }
+                AssetCache.Hit hit = get && cache.accepts(url) ? cache.get(url) : null;
+                if (hit != null) {
+                    fulfill(id, hit);
+                    return;
+                }
+            } else if (get && cache.accepts(url) && e.get("responseStatusCode") instanceof Number n && n.intValue() == 200) {
+                store(id, url, e.get("responseHeaders"));
+            }
+            continueRequest(id);
+        } catch (RuntimeException ex) {
+            // duraklatılan istek bırakılmazsa sayfa asılı kalır
+            try { continueRequest(id); } catch (RuntimeException ignored) {}
+        }
+    }
+
+    private void fulfill(String id, AssetCache.Hit hit) {
+        List<Map<String, String>> headers = new ArrayList<>();
+        if (!hit.contentType().isEmpty()) headers.add(Map.of("name", "Content-Type", "value", hit.contentType()));
+        headers.add(Map.of("name", "Access-Control-Allow-Origin", "value", "*"));
+        devTools.send(new Command<Void>("Fetch.fulfillRequest", Map.of(
+                "requestId", id,
+                "responseCode", 200,
+                "responseHeaders", headers,
+                "body", Base64.getEncoder().encodeToString(hit.body()))));
+    }
+
+    private void store(String id, String url, Object responseHeaders) {
+        Map<String, Object> r = devTools.send(new Command<>("Fetch.getResponseBody", Map.of("requestId", id), AS_MAP));
+        Object body = r.get("body");
+        if (!(body instanceof String s)) return;
+        byte[] bytes = Boolean.TRUE.equals(r.get("base64Encoded"))
+                ? Base64.getDecoder().decode(s)
+                : s.getBytes(StandardCharsets.UTF_8);
+        cache.put(url, bytes, header(responseHeaders, "content-type"));
+    }
+
+    private void continueRequest(String id) {
+        devTools.send(new Command<Void>("Fetch.continueRequest", Map.of("requestId", id)));
+    }
+
+    private boolean isBlocked(String url) {
+        for (Pattern p : blocked) if (p.matcher(url).matches()) return true;
+        return false;
+    }
+
+    private static String header(Object headers, String name) {
+        if (headers instanceof List<?> list) {
+            for (Object o : list) {
+                if (o instanceof Map<?, ?> h && name.equals(String.valueOf(h.get("name")).toLowerCase(Locale.ROOT))) {
+                    return String.valueOf(h.get("value"));
+                }
+            }
+        }
+        return "";
+    }
+
+    /** CDP joker deseni ({@code *}) → regex. */
+    private static Pattern glob(String pattern) {
+        String[] parts = pattern.split("\\*", -1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) sb.append(".*");
+            if (!parts[i].isEmpty()) sb.append(Pattern.quote(parts[i]));
+        }
+        return Pattern.compile(sb.toString());
+    }
+}
@@ -0,0 +1,275 @@
+package com.sinannuhoglu.core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * NetworkTracker
+ * <p>
+ * Sürücüye bağlı CDP oturumundan ({@code Network.*} olayları) bekleyen XHR/fetch isteklerini izler.
+ * Sayfa içi sayaçtan ({@link UiSettle}) farkı: navigasyon sırasında kaybolmaz, enjeksiyondan önce başlayan
+ * istekleri ve iframe/worker trafiğini de görür, beklemeler poll yerine olayla uyanır.
+ * <ul>
+ *   <li>{@link #awaitIdle}: bekleyen istek kalmayıp ağ {@code quiet} süresi boyunca sessiz kalana kadar,</li>
+ *   <li>{@link #awaitRequest}: {@link #mark()}'tan sonra başlayan ve URL'i verilen parçayı içeren bir istek
+ *       tamamlanana (ya da düşene) kadar.</li>
+ * </ul>
+ * Olaylar sürüm bağımsız ham CDP adlarıyla dinlenir (devtools-vNNN sınıflarına bağlı değil).
+ * {@code ignore} listesindeki URL'ler ve {@code hangAfter}'dan uzun süredir açık istekler (long-polling,
+ * SignalR) sessizlik hesabına katılmaz.
+ * <p>
+ * Ayarlar (ConfigReader):
+ * <pre>
+ *   selenium.network.tracking.enabled (default: false)  -DnetworkTracking=true
+ *   selenium.network.quiet            (default: 300ms)
+ *   selenium.network.timeout          (default: 15s)
+ *   selenium.network.hangAfter        (default: 10s)
+ *   selenium.network.ignore           (default: signalr,/hubs/)
+ * </pre>
+ * Sürücü başına tek izleyici {@link DriverFactory} tarafından bağlanır; {@link #of(WebDriver)} yoksa null döner.
+ */
+public final class NetworkTracker {
+
+    private static final int RECENT_MAX = 256;
+    private static final List<String> DEFAULT_IGNORE = List.of("signalr", "/hubs/");
+
+    private static final Map<WebDriver, NetworkTracker> TRACKERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final Function<JsonInput, Map<String, Object>> AS_MAP =
+            in -> in.read(Json.MAP_TYPE);
+
+    private record Pending(long seq, String url, long startedNanos) {}
+
+    private record Done(long seq, String url, boolean failed) {}
+
+    private final Object lock = new Object();
+    private final Map<String, Pending> inflight = new HashMap<>();
+    private final ArrayDeque<Done> recent = new ArrayDeque<>();
+    private final List<String> ignore;
+    private final long hangAfterNanos;
+    private final Duration quiet;
+    private final Duration timeout;
+    private long seq;
+    private long lastActivityNanos = System.nanoTime();
+
+    private NetworkTracker(ConfigReader cfg) {
+        List<String> ig = cfg.getList("selenium.network.ignore");
+        this.ignore = ig.isEmpty() ? DEFAULT_IGNORE : ig;
+        this.hangAfterNanos = cfg.getDuration("selenium.network.hangAfter", Duration.ofSeconds(10)).toNanos();
+        this.quiet = cfg.getDuration("selenium.network.quiet", Duration.ofMillis(300));
+        this.timeout = cfg.getDuration("selenium.network.timeout", Duration.ofSeconds(15));
+    }
+
+    /** İzleme açık mı? ({@code -DnetworkTracking} config'i ezer.) */
+    public static boolean isEnabled(ConfigReader cfg) {
+        String sys = System.getProperty("networkTracking");
+        if (sys != null && !sys.isBlank()) return Boolean.parseBoolean(sys.trim());
+        return cfg != null && cfg.getBoolean("selenium.network.tracking.enabled", false);
+    }
+
+    /**
+     * CDP oturumu açar, {@code Network.enable} gönderir ve dinleyicileri bağlar.
+     * @return izleyici; sürücü DevTools desteklemiyorsa ya da bağlantı kurulamazsa null
+     */
+    public static NetworkTracker attach(WebDriver driver, ConfigReader cfg) {
+        if (!(driver instanceof HasDevTools hd)) {
+            System.out.println("[NetworkTracker] Sürücü DevTools desteklemiyor; izleme kapalı.");
+            return null;
+        }
+        try {
+            Optional<DevTools> maybe = hd.maybeGetDevTools();
+            if (maybe.isEmpty()) {
+                System.out.println("[NetworkTracker] CDP bağlantısı yok; izleme kapalı.");
+                return null;
+            }
+            DevTools devTools = maybe.get();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkTracker t = new NetworkTracker(cfg);
+            devTools.addListener(new Event<>("Network.requestWillBeSent", AS_MAP), t::onRequest);
+            devTools.addListener(new Event<>("Network.loadingFinished", AS_MAP), e -> t.onDone(e, false));
+            devTools.addListener(new Event<>("Network.loadingFailed", AS_MAP), e -> t.onDone(e, true));
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            register(driver, t);
+            System.out.println("[NetworkTracker] Bağlandı (quiet=" + t.quiet.toMillis() + " ms, ignore=" + t.ignore + ")");
+            return t;
+        } catch (RuntimeException e) {
+            System.out.println("[NetworkTracker] Bağlanamadı; izleme kapalı: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Aynı izleyiciyi sarmalanmış (decorated) sürücü için de kaydeder. */
+    public static void register(WebDriver driver, NetworkTracker tracker) {
+        if (driver != null && tracker != null) TRACKERS.put(driver, tracker);
+    }
+
+    /** Sürücünün izleyicisi; bağlı değilse null. */
+    public static NetworkTracker of(WebDriver driver) {
+        return driver == null ? null : TRACKERS.get(driver);
+    }
+
+    /**
+     * Eylemi çalıştırıp ardından başlayan {@code urlPart} isteğini bekler; sürücüye izleyici bağlı değilse
+     * eylemden sonra {@link UiSettle} ile arayüzün durmasını bekler.
+     * @return istek görüldüyse true (izleyici yoksa false)
+     */
+    public static boolean runAndAwait(WebDriver driver, String urlPart, String label, Runnable action) {
+        NetworkTracker tracker = of(driver);
+        if (tracker == null) {
+            action.run();
+            UiSettle.await(driver, label);
+            return false;
+        }
+        long since = tracker.mark();
+        action.run();
+        return tracker.awaitRequest(urlPart, since, label);
+    }
+
+    /** Şu ana kadar başlamış isteklerin sıra numarası; {@link #awaitRequest} bundan sonrakilere bakar. */
+    public long mark() {
+        synchronized (lock) {
+            return seq;
+        }
+    }
+
+    /** Varsayılan pencere ve zaman aşımı ile ağın sessizleşmesini bekler. */
+    public long awaitIdle(String label) {
+        return awaitIdle(label, quiet, timeout);
+    }
+
+    /**
+     * Bekleyen XHR/fetch kalmayıp son aktiviteden (en erken çağrı anından) bu yana {@code quiet} geçene kadar
+     * bekler. Süre dolarsa hata fırlatılmaz; bekleyen istekler loglanır.
+     * @return beklemenin gerçek süresi (ms)
+     */
+    public long awaitIdle(String label, Duration quiet, Duration timeout) {
+        long t0 = System.nanoTime();
+        long deadline = t0 + timeout.toNanos();
+        String pending = null;
+        synchronized (lock) {
+            while (true) {
+                long now = System.nanoTime();
+                int open = openCount(now);
+                long quietLeft = Math.max(lastActivityNanos, t0) + quiet.toNanos() - now;
+                if (open == 0 && quietLeft <= 0) break;
+                if (now >= deadline) {
+                    pending = open + " istek: " + openUrls(now);
+                    break;
+                }
+                // açık istek varken de hangAfter eşiği geçilebileceği için en geç quiet kadar uyu
+                long sleep = open == 0 ? quietLeft : quiet.toNanos();
+                if (!waitNanos(Math.min(sleep, deadline - now))) return -1;
+            }
+        }
+        long ms = (System.nanoTime() - t0) / 1_000_000L;
+        System.out.println("[NetworkTracker] " + label + " → " + ms + " ms" + (pending == null ? "" : " (durmadı: " + pending + ")"));
+        return ms;
+    }
+
+    /**
+     * {@code since}'ten ({@link #mark()}) sonra başlayıp URL'i {@code urlPart} içeren bir isteğin bitmesini bekler.
+     * @return istek süre içinde tamamlandıysa (başarısız bitse de) true
+     */
+    public boolean awaitRequest(String urlPart, long since, String label, Duration timeout) {
+        long t0 = System.nanoTime();
+        long deadline = t0 + timeout.toNanos();
+        Done hit = null;
+        synchronized (lock) {
+            while ((hit = findDone(urlPart, since)) == null) {
+                long now = System.nanoTime();
+                if (now >= deadline) break;
+                if (!waitNanos(deadline - now)) return false;
+            }
+        }
+        long ms = (System.nanoTime() - t0) / 1_000_000L;
+        System.out.println("[NetworkTracker] " + label + " → " + ms + " ms"
+                + (hit == null ? " (istek görülmedi: " + urlPart + ")" : hit.failed() ? " (istek düştü: " + hit.url() + ")" : ""));
+        return hit != null;
+    }
+
+    /** {@link #awaitRequest(String, long, String, Duration)}; varsayılan zaman aşımı ile. */
+    public boolean awaitRequest(String urlPart, long since, String label) {
+        return awaitRequest(urlPart, since, label, timeout);
+    }
+
+    // ---------------------------------------------------------------------
+
+    private void onRequest(Map<String, Object> e) {
+        String type = String.valueOf(e.get("type"));
+        if (!"XHR".equals(type) && !"Fetch".equals(type)) return;
+        String id = String.valueOf(e.get("requestId"));
+        String url = e.get("request") instanceof Map<?, ?> r ? String.valueOf(r.get("url")) : "";
+        for (String s : ignore) if (url.contains(s)) return;
+        synchronized (lock) {
+            // yönlendirmede aynı requestId yeniden gelir; sıra numarası korunur
+            Pending prev = inflight.get(id);
+            inflight.put(id, new Pending(prev != null ? prev.seq() : ++seq, url, System.nanoTime()));
+            lastActivityNanos = System.nanoTime();
+            lock.notifyAll();
+        }
+    }
+
+    private void onDone(Map<String, Object> e, boolean failed) {
+        String id = String.valueOf(e.get("requestId"));
+        synchronized (lock) {
+            Pending p = inflight.remove(id);
+            if (p == null) return;
+            recent.addLast(new Done(p.seq(), p.url(), failed));
+            if (recent.size() > RECENT_MAX) recent.removeFirst();
+            lastActivityNanos = System.nanoTime();
+            lock.notifyAll();
+        }
+    }
+
+    private Done findDone(String urlPart, long since) {
+        for (Done d : recent) {
+            if (d.seq() > since && d.url().contains(urlPart)) return d;
+        }
+        return null;
+    }
+
+    private int openCount(long now) {
+        int n = 0;
+        for (Pending p : inflight.values()) if (counts(p, now)) n++;
+        return n;
+    }
+
+    private String openUrls(long now) {
+        StringBuilder sb = new StringBuilder();
+        for (Pending p : inflight.values()) {
+            if (counts(p, now)) sb.append(sb.length() == 0 ? "" : ", ").append(p.url());
+        }
+        return sb.toString();
+    }
+
+    private boolean counts(Pending p, long now) {
+        return now - p.startedNanos() <= hangAfterNanos;
+    }
+
+    /** lock tutulurken çağrılır; kesilirse false. */
+    private boolean waitNanos(long nanos) {
+        if (nanos <= 0) return true;
+        try {
+            lock.wait(Math.max(1L, nanos / 1_000_000L), 0);
+            return true;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
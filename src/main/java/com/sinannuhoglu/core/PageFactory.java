@@ -2,6 +2,9 @@ package com.sinannuhoglu.core;
 
 import org.openqa.selenium.WebDriver;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
@@ -11,8 +14,11 @@ import java.util.Objects;
  * Basit ve esnek Page Object fabrikası.
  * Öncelik sırasıyla şu yapıcı imzalarını dener:
  * (WebDriver, ConfigReader) → (WebDriver) → (ConfigReader) → ().
- * WebDriver/ConfigReader varsayılan olarak TestContext/DriverManager ve
- * ConfigReader.fromEnvironment() ile çözülür.
+ * WebDriver/ConfigReader varsayılan olarak aktif thread'in TestContext/DriverManager
+ * kaydı ve ConfigReader.fromEnvironment() ile çözülür.
+ * <p>
+ * Seçilen yapıcı sınıf başına bir kez çözülür ve MethodHandle olarak önbelleklenir ({@link ClassValue});
+ * sonraki çağrılar yansıma araması yapmaz.
  */
 public final class PageFactory {
 
@@ -58,50 +64,85 @@ public final class PageFactory {
     }
 
     private static <T> T instantiate(Class<T> pageClass, WebDriver driver, ConfigReader cfg) {
-        Constructor<T> c;
-
-        c = ctor(pageClass, WebDriver.class, ConfigReader.class);
-        if (c != null) {
-            require("WebDriver", driver, c);
-            return newInstance(c, driver, cfg);
+        Strategy st = STRATEGIES.get(pageClass);
+        Object page;
+        try {
+            page = switch (st.kind) {
+                case DRIVER_CONFIG -> {
+                    require("WebDriver", driver, st);
+                    yield st.handle.invokeExact(driver, cfg);
+                }
+                case DRIVER -> {
+                    require("WebDriver", driver, st);
+                    yield st.handle.invokeExact(driver);
+                }
+                case CONFIG -> {
+                    require("ConfigReader", cfg, st);
+                    yield st.handle.invokeExact(cfg);
+                }
+                case NONE -> st.handle.invokeExact();
+            };
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException("Nesne oluşturulamadı: " + st.signature, t);
         }
+        return pageClass.cast(page);
+    }
 
-        c = ctor(pageClass, WebDriver.class);
-        if (c != null) {
-            require("WebDriver", driver, c);
-            return newInstance(c, driver);
-        }
+    /** Sınıf başına bir kez çözülen yapıcı stratejisi. */
+    private enum Kind { DRIVER_CONFIG, DRIVER, CONFIG, NONE }
 
-        c = ctor(pageClass, ConfigReader.class);
-        if (c != null) {
-            require("ConfigReader", cfg, c);
-            return newInstance(c, cfg);
+    private record Strategy(Kind kind, MethodHandle handle, String signature) {}
+
+    private static final ClassValue<Strategy> STRATEGIES = new ClassValue<>() {
+        @Override
+        protected Strategy computeValue(Class<?> type) {
+            return resolve(type);
         }
+    };
 
-        c = ctor(pageClass);
-        if (c != null) return newInstance(c);
+    private static Strategy resolve(Class<?> type) {
+        Strategy s;
+        if ((s = strategy(type, Kind.DRIVER_CONFIG, WebDriver.class, ConfigReader.class)) != null) return s;
+        if ((s = strategy(type, Kind.DRIVER, WebDriver.class)) != null) return s;
+        if ((s = strategy(type, Kind.CONFIG, ConfigReader.class)) != null) return s;
+        if ((s = strategy(type, Kind.NONE)) != null) return s;
 
-        String available = listConstructors(pageClass);
+        String available = listConstructors(type);
         throw new IllegalStateException(
-                "Uygun yapıcı bulunamadı: " + pageClass.getName() +
+                "Uygun yapıcı bulunamadı: " + type.getName() +
                         " | Aranan: (WebDriver,ConfigReader),(WebDriver),(ConfigReader),()" +
                         " | Mevcut: " + available
         );
     }
 
-    private static void require(String name, Object value, Constructor<?> c) {
+    /** Yapıcıyı (Object, ...)Object imzalı MethodHandle'a çevirir; yoksa null. */
+    private static Strategy strategy(Class<?> type, Kind kind, Class<?>... params) {
+        Constructor<?> c = ctor(type, params);
+        if (c == null) return null;
+        try {
+            MethodHandle mh = MethodHandles.lookup().unreflectConstructor(c);
+            mh = mh.asType(MethodType.methodType(Object.class, params));
+            return new Strategy(kind, mh, signature(c));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static void require(String name, Object value, Strategy st) {
         if (value == null) {
             throw new IllegalStateException(
-                    name + " gerekli ancak bulunamadı. Yapıcı: " + signature(c) +
+                    name + " gerekli ancak bulunamadı. Yapıcı: " + st.signature +
                             " | Çözüm: Hook içinde DriverManager.setDriver(driver)/ConfigReader kurun " +
                             "ya da PageFactory.create(Page, driver, cfg) kullanın."
             );
         }
     }
 
-    private static <T> Constructor<T> ctor(Class<T> type, Class<?>... params) {
+    private static Constructor<?> ctor(Class<?> type, Class<?>... params) {
         try {
-            Constructor<T> c = type.getDeclaredConstructor(params);
+            Constructor<?> c = type.getDeclaredConstructor(params);
             if (!Modifier.isPublic(c.getModifiers())) c.setAccessible(true);
             return c;
         } catch (NoSuchMethodException | SecurityException e) {
@@ -109,15 +150,6 @@ public final class PageFactory {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> T newInstance(Constructor<?> c, Object... args) {
-        try {
-            return (T) c.newInstance(args);
-        } catch (ReflectiveOperationException e) {
-            throw new RuntimeException("Nesne oluşturulamadı: " + signature(c), e);
-        }
-    }
-
     private static String listConstructors(Class<?> type) {
         Constructor<?>[] all = type.getDeclaredConstructors();
         if (all.length == 0) return "yok";
@@ -0,0 +1,105 @@
+package com.sinannuhoglu.core;
+
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SessionCache
+ * <p>
+ * Kimliği doğrulanmış oturumları (tenant + kullanıcı başına) süreç genelinde saklar.
+ * İlk senaryo UI üzerinden giriş yapıp dashboard'a ulaştığında durum yakalanır;
+ * sonraki senaryolar çerez ve storage'ı doğrudan enjekte ederek login ekranını atlar.
+ * <p>
+ * Ayarlar (ConfigReader):
+ * <pre>
+ *   auth.sessionCache.enabled (default: false)
+ *   auth.sessionCache.ttl     (default: 30m)
+ * </pre>
+ * Kayıt TTL dolduğunda ya da geri yüklemeden sonra /account/login'e yönlendirme (401)
+ * görüldüğünde geçersiz sayılır.
+ */
+public final class SessionCache {
+
+    static final String LOGIN_PATH = "/account/login";
+
+    private static final Map<String, BrowserState> ENTRIES = new ConcurrentHashMap<>();
+
+    private SessionCache() {}
+
+    /** Önbellek etkin mi? (yeniden deneme turunda {@link TestContext#reuseWarmSession()} ile her zaman) */
+    public static boolean isEnabled(ConfigReader cfg) {
+        return TestContext.get().reuseWarmSession()
+                || cfg != null && cfg.getBoolean("auth.sessionCache.enabled", false);
+    }
+
+    /** baseUrl + tenant + kullanıcı adından anahtar üretir. */
+    public static String key(String baseUrl, String tenant, String username) {
+        return norm(baseUrl) + "|" + norm(tenant) + "|" + norm(username);
+    }
+
+    /** Aktif oturumu (dashboard'a inilmiş olmalı) anahtar altında saklar. */
+    public static void capture(WebDriver driver, String key) {
+        try {
+            String url = driver.getCurrentUrl();
+            if (url == null || url.toLowerCase(Locale.ROOT).contains(LOGIN_PATH)) return;
+            BrowserState state = BrowserState.capture(driver);
+            ENTRIES.put(key, state);
+            System.out.println("[SessionCache] Yakalandı: " + key + " → " + state);
+        } catch (Exception e) {
+            System.out.println("[SessionCache] Yakalama başarısız: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Anahtardaki oturumu tarayıcıya enjekte eder.
+     * @return oturum geri yüklendi ve login'e yönlendirilmediyse true
+     */
+    public static boolean restore(WebDriver driver, String key, Duration ttl) {
+        BrowserState state = ENTRIES.get(key);
+        if (state == null) return false;
+        if (ttl != null && state.ageMillis() > ttl.toMillis()) {
+            invalidate(key, "TTL doldu");
+            return false;
+        }
+        if (!state.restore(driver) || redirectedToLogin(driver)) {
+            invalidate(key, "login'e yönlendirildi");
+            return false;
+        }
+        System.out.println("[SessionCache] Geri yüklendi: " + key);
+        return true;
+    }
+
+    /** Sürücü şu an login sayfasında mı (401 sonrası yönlendirme)? */
+    public static boolean redirectedToLogin(WebDriver driver) {
+        try {
+            String url = driver.getCurrentUrl();
+            return url == null || url.toLowerCase(Locale.ROOT).contains(LOGIN_PATH);
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    /** TTL ayarını okur. */
+    public static Duration ttl(ConfigReader cfg) {
+        return cfg == null ? Duration.ofMinutes(30) : cfg.getDuration("auth.sessionCache.ttl", Duration.ofMinutes(30));
+    }
+
+    public static void invalidate(String key, String reason) {
+        if (ENTRIES.remove(key) != null) {
+            System.out.println("[SessionCache] Geçersiz: " + key + " (" + reason + ")");
+        }
+    }
+
+    /** Tüm kayıtları siler. */
+    public static void clear() {
+        ENTRIES.clear();
+    }
+
+    private static String norm(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+}
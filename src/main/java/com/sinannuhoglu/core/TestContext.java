@@ -2,33 +2,39 @@ package com.sinannuhoglu.core;
 
 import org.openqa.selenium.WebDriver;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Senaryo süresince WebDriver ve ConfigReader yaşam döngüsünü yöneten,
- * tekil (singleton) bağlam.
+ * iş parçacığı (thread) başına bağlam. Paralel koşumda her worker thread
+ * kendi sürücüsü ve konfigürasyonuyla izole çalışır.
  * <p>
  * Davranış akışı:
  * <ol>
  *   <li>{@link #init()} çağrısında etkin ortamdan {@link ConfigReader} yüklenir,</li>
  *   <li>gerekli Selenium ayarları {@code System.setProperty} ile yayılır,</li>
- *   <li>{@link DriverFactory} ile {@link WebDriver} oluşturulur ve
+ *   <li>{@link DriverFactory} ile (ya da havuz etkinse {@link DriverPool}'dan) {@link WebDriver} alınır ve
  *       {@link DriverManager} üzerinden aktif iş parçacığına atanır.</li>
  * </ol>
  * {@link #quit()} çağrısı, sürücüyü kapatıp {@link DriverManager} ThreadLocal’ını temizler.
  */
 public final class TestContext {
 
-    private static final TestContext INSTANCE = new TestContext();
+    private static final ThreadLocal<TestContext> CURRENT = ThreadLocal.withInitial(TestContext::new);
 
     private WebDriver driver;
     private ConfigReader cfg;
+    private boolean pooled;
+    private boolean reuseWarmSession;
+    private final Map<Class<?>, Object> pages = new HashMap<>();
 
     private TestContext() { }
 
-    /** Tekil örnek erişimi. */
+    /** Aktif thread'in bağlamı. */
     public static TestContext get() {
-        return INSTANCE;
+        return CURRENT.get();
     }
 
     /**
@@ -39,32 +45,43 @@ public final class TestContext {
      *   <li>WebDriver oluşturup DriverManager’a kaydeder.</li>
      * </ul>
      */
-    public synchronized void init() {
+    public void init() {
         if (driver != null) return;
 
         this.cfg = ConfigReader.fromEnvironment();
         propagateSeleniumProps(cfg);
         propagateBaseUrl(cfg);
 
-        this.driver = DriverFactory.create();
+        this.pooled = reuseWarmSession || DriverPool.isEnabled(cfg);
+        this.driver = pooled ? DriverPool.get().checkout() : DriverFactory.create();
         DriverManager.setDriver(this.driver);
 
-        System.out.println("[TestContext] Initialized. env=" + cfg.env());
+        System.out.println("[TestContext] Initialized. env=" + cfg.env() + (pooled ? " (pooled)" : ""));
     }
 
     /**
      * Dışarıda oluşturulmuş bir WebDriver’ı bağlar.
      * Mevcut bir sürücü varsa değiştirmez; önce {@link #quit()} çağrılmalıdır.
      */
-    public synchronized void setDriver(WebDriver externalDriver) {
+    public void setDriver(WebDriver externalDriver) {
         Objects.requireNonNull(externalDriver, "externalDriver");
         if (this.driver != null) return;
         this.driver = externalDriver;
         DriverManager.setDriver(this.driver);
     }
 
+    /**
+     * Yeniden deneme turunda açılır ("pooled rerun"): config'ten bağımsız olarak sürücü havuzu ({@link DriverPool})
+     * ve oturum önbelleği ({@link SessionCache}) kullanılır; havuz kapalıysa koşumcu önce
+     * {@link DriverPool#forRerun(int)} ile kurar. {@link #quit()} bu bayrağı sıfırlamaz.
+     */
+    public void setReuseWarmSession(boolean reuse) { this.reuseWarmSession = reuse; }
+
+    /** Isınmış tarayıcı/oturum yeniden kullanımı istendi mi? */
+    public boolean reuseWarmSession() { return reuseWarmSession; }
+
     /** Başlatılmış mı? */
-    public synchronized boolean isInitialized() {
+    public boolean isInitialized() {
         return this.driver != null;
     }
 
@@ -74,15 +91,38 @@ public final class TestContext {
     /** Aktif ConfigReader (init sonrası non-null). */
     public ConfigReader cfg() { return cfg; }
 
-    /** Sürücüyü kapatır, ThreadLocal’ı ve konfigürasyonu temizler. */
-    public synchronized void quit() {
+    /**
+     * Senaryo boyunca sayfa örneğini önbellekler: aynı sınıf için aynı nesne döner.
+     * Önbellek {@link #quit()} ile temizlenir.
+     */
+    public <T> T page(Class<T> pageClass) {
+        Object page = pages.get(pageClass);
+        if (page == null) {
+            page = PageFactory.create(pageClass, driver, cfg);
+            pages.put(pageClass, page);
+        }
+        return pageClass.cast(page);
+    }
+
+    /**
+     * Sürücüyü kapatır (havuzdan alındıysa temizleyip havuza iade eder),
+     * ThreadLocal’ı ve konfigürasyonu temizler.
+     */
+    public void quit() {
         try {
-            if (driver != null) driver.quit();
+            if (driver != null) {
+                if (pooled) DriverPool.get().release(driver);
+                else driver.quit();
+            }
         } catch (Exception ignored) {
         } finally {
+            // quit hata verse de disk önbelleği yuvasının kilidi bırakılır (havuzdaki sürücünün yuvası havuzda kalır)
+            if (driver != null && !pooled) BrowserDiskCache.release(driver);
             DriverManager.removeDriver();
+            pages.clear();
             driver = null;
             cfg = null;
+            pooled = false;
             System.out.println("[TestContext] Quit.");
         }
     }
@@ -0,0 +1,125 @@
+package com.sinannuhoglu.core;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * UiSettle
+ * <p>
+ * Sabit {@code Thread.sleep} yerine "arayüz durdu" tespiti. Tek bir async script, aşağıdaki koşulların
+ * hepsi çağrı başladıktan sonra {@code quiet} süresi boyunca kesintisiz sağlanana kadar bekler:
+ * <ul>
+ *   <li>ağ sessiz: bekleyen XHR/fetch yok (ilk çağrıda sayfaya sayaç enjekte edilir),</li>
+ *   <li>sonlu (finite) CSS/Web animasyonu çalışmıyor,</li>
+ *   <li>görünür Syncfusion spinner'ı ({@code .e-spinner-pane:not(.e-spin-hide)}) yok,</li>
+ *   <li>DOM'da mutasyon olmuyor.</li>
+ * </ul>
+ * Süre dolarsa hata fırlatılmaz (sleep'in yerine geçtiği için); hangi koşulun sağlanmadığı loglanır.
+ * Her bekleme {@code [UiSettle] <etiket> → N ms} olarak raporlanır.
+ * <p>
+ * Ayarlar (ConfigReader):
+ * <pre>
+ *   selenium.settle.quiet   (default: 150ms)
+ *   selenium.settle.timeout (default: 10s)
+ * </pre>
+ */
+public final class UiSettle {
+
+    private static final long CHUNK_MS = 10_000L;
+
+    private static final String SCRIPT =
+            "var quiet=arguments[0],timeout=arguments[1],done=arguments[arguments.length-1];" +
+            "var w=window;" +
+            "if(!w.__uiSettle){var st=w.__uiSettle={inflight:0,last:Date.now()};" +
+            " function bump(d){st.inflight=Math.max(0,st.inflight+d);st.last=Date.now();}" +
+            " try{var xo=XMLHttpRequest.prototype.send;XMLHttpRequest.prototype.send=function(){bump(1);" +
+            "  this.addEventListener('loadend',function(){bump(-1);});return xo.apply(this,arguments);};}catch(e){}" +
+            " try{if(w.fetch){var fo=w.fetch;w.fetch=function(){bump(1);return fo.apply(this,arguments)" +
+            "  .then(function(r){bump(-1);return r;},function(e){bump(-1);throw e;});};}}catch(e){}}" +
+            "var st=w.__uiSettle,start=Date.now(),lastDom=start,res=performance.getEntriesByType('resource').length;" +
+            "var obs=new MutationObserver(function(){lastDom=Date.now();});" +
+            "obs.observe(document.documentElement||document,{childList:true,subtree:true,attributes:true,characterData:true});" +
+            "function anims(){try{return document.getAnimations().some(function(a){" +
+            " if(a.playState!=='running')return false;var t=a.effect&&a.effect.getComputedTiming?a.effect.getComputedTiming():null;" +
+            " return !t||isFinite(t.endTime);});}catch(e){return false;}}" +
+            "function spinner(){var s=document.querySelectorAll('.e-spinner-pane:not(.e-spin-hide)');" +
+            " for(var i=0;i<s.length;i++){var r=s[i].getBoundingClientRect();if(r.width>0&&r.height>0)return true;}return false;}" +
+            "var lastBusy=start;" +
+            "function tick(){var now=Date.now(),n=performance.getEntriesByType('resource').length;" +
+            " if(n!==res){res=n;st.last=now;}" +
+            " var busy={net:st.inflight>0,anim:anims(),spinner:spinner()};" +
+            " if(busy.net||busy.anim||busy.spinner)lastBusy=now;" +
+            " if(!busy.net&&!busy.anim&&!busy.spinner&&now-Math.max(lastBusy,st.last,lastDom)>=quiet&&now-start>=quiet){" +
+            "  obs.disconnect();done({ms:now-start});return;}" +
+            " if(now-start>=timeout){obs.disconnect();busy.dom=now-lastDom<quiet;busy.timeout=true;busy.ms=now-start;done(busy);return;}" +
+            " setTimeout(tick,30);}" +
+            "tick();";
+
+    private UiSettle() {}
+
+    private static Duration defaultTimeout(ConfigReader cfg) {
+        return cfg == null ? Duration.ofSeconds(10) : cfg.getDuration("selenium.settle.timeout", Duration.ofSeconds(10));
+    }
+
+    /** Varsayılan sessizlik penceresi ve zaman aşımı ile bekler. */
+    public static long await(WebDriver driver, String label) {
+        ConfigReader cfg = TestContext.get().cfg();
+        Duration quiet = cfg == null ? Duration.ofMillis(150) : cfg.getDuration("selenium.settle.quiet", Duration.ofMillis(150));
+        return await(driver, label, quiet, defaultTimeout(cfg));
+    }
+
+    /**
+     * Verilen sessizlik penceresiyle bekler; zaman aşımı {@code selenium.settle.timeout}.
+     * Döngü içinde (kaydırma taraması) çağıranlar kısa bir zaman aşımını
+     * {@link #await(WebDriver, String, Duration, Duration)} ile açıkça vermelidir.
+     */
+    public static long await(WebDriver driver, String label, Duration quiet) {
+        return await(driver, label, quiet, defaultTimeout(TestContext.get().cfg()));
+    }
+
+    /**
+     * Arayüz durana kadar bekler.
+     * @return beklemenin gerçek süresi (ms)
+     */
+    public static long await(WebDriver driver, String label, Duration quiet, Duration timeout) {
+        long t0 = System.nanoTime();
+        long deadline = t0 + timeout.toNanos();
+        String pending = null;
+        try {
+            while (true) {
+                long remaining = Math.max(quiet.toMillis(), (deadline - System.nanoTime()) / 1_000_000L);
+                Object r;
+                try {
+                    r = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, quiet.toMillis(), Math.min(remaining, CHUNK_MS));
+                } catch (ScriptTimeoutException | JavascriptException e) {
+                    // navigasyon sırasında doküman değişti; yeni doküman üzerinde sürdür
+                    r = null;
+                }
+                if (r instanceof Map<?, ?> m && !m.containsKey("timeout")) {
+                    pending = null;
+                    break;
+                }
+                pending = r instanceof Map<?, ?> m ? busyReasons(m) : "navigasyon";
+                if (System.nanoTime() >= deadline) break;
+            }
+        } catch (RuntimeException e) {
+            pending = "hata: " + e.getMessage();
+        }
+        long ms = (System.nanoTime() - t0) / 1_000_000L;
+        System.out.println("[UiSettle] " + label + " → " + ms + " ms" + (pending == null ? "" : " (durmadı: " + pending + ")"));
+        return ms;
+    }
+
+    private static String busyReasons(Map<?, ?> m) {
+        StringBuilder sb = new StringBuilder();
+        for (String k : new String[]{"net", "anim", "spinner", "dom"}) {
+            if (Boolean.TRUE.equals(m.get(k))) sb.append(sb.length() == 0 ? "" : ",").append(k);
+        }
+        return sb.length() == 0 ? "?" : sb.toString();
+    }
+}
@@ -1,14 +1,15 @@
 package com.sinannuhoglu.pages;
 
+import com.sinannuhoglu.core.UiSettle;
+import com.sinannuhoglu.perf.WebVitals;
+import com.sinannuhoglu.util.TextNormalizer;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.text.Normalizer;
 import java.time.Duration;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -19,6 +20,8 @@ public class AppointmentDefinitionsPage {
     private final WebDriver driver;
     private final Duration TIMEOUT = Duration.ofSeconds(20);
     private final Duration SHORT = Duration.ofSeconds(5);
+    /** Kaydırma döngüsünde adım başına yerleşme üst sınırı (arka plan trafiği taramayı uzatmasın). */
+    private static final Duration SCROLL_SETTLE_TIMEOUT = Duration.ofSeconds(1);
 
     public AppointmentDefinitionsPage(WebDriver driver) {
         this.driver = driver;
@@ -51,19 +54,6 @@ public class AppointmentDefinitionsPage {
         js().executeScript("arguments[0].click();", el);
     }
 
-    /** Metni kıyaslanabilir forma indirger (TR karakter normalizasyonu + trim/lowercase). */
-    private static String fold(String s) {
-        if (s == null) return "";
-        s = s.replace('ı','i').replace('İ','I')
-                .replace('ş','s').replace('Ş','S')
-                .replace('ğ','g').replace('Ğ','G')
-                .replace('ç','c').replace('Ç','C')
-                .replace('ö','o').replace('Ö','O')
-                .replace('ü','u').replace('Ü','U');
-        String n = Normalizer.normalize(s, Normalizer.Form.NFD).replaceAll("\\p{M}+","");
-        return n.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+"," ");
-    }
-
     // ----------------- Menü akışı -----------------
 
     /** Sol menüden “Tanımlar/Definitions” bağlantısını tıklar (bulunamazsa sessiz geçer). */
@@ -107,11 +97,13 @@ public class AppointmentDefinitionsPage {
         new WebDriverWait(driver, TIMEOUT).until(
                 ExpectedConditions.presenceOfElementLocated(By.cssSelector("div.e-gridcontent div.e-content"))
         );
+        WebVitals.sample(driver, "AppointmentDefinitionsPage.openResourcesUnderDefinitions");
     }
 
     // ----------------- Grid / Pager locator'ları -----------------
 
-    private final By gridRoot = By.cssSelector("div.e-grid[id='Grid'], div[role='grid'].e-grid");
+    private static final String GRID_CSS = "div.e-grid[id='Grid'], div[role='grid'].e-grid";
+    private final By gridRoot = By.cssSelector(GRID_CSS);
     private final By gridContent = By.cssSelector("div.e-gridcontent div.e-content");
     private final By spinnerVisible = By.cssSelector(".e-spinner-pane:not(.e-spin-hide)");
 
@@ -185,7 +177,7 @@ public class AppointmentDefinitionsPage {
         new WebDriverWait(driver, Duration.ofSeconds(10))
                 .until(d -> d.findElements(spinnerVisible).isEmpty());
         waitVisible(gridRoot, SHORT);
-        try { Thread.sleep(120); } catch (InterruptedException ignored) {}
+        UiSettle.await(driver, "grid");
     }
 
     // ----------------- Switch kontrolü (aria-colindex=4) -----------------
@@ -233,13 +225,45 @@ public class AppointmentDefinitionsPage {
     /**
      * Grid’de ilk sütunda adı verilen kaynağı bularak aynı satırdaki switch'i (4. sütun) gerekirse aktif eder
      * ve ardından “Düzenle” butonuna tıklar.
-     * Sanallaştırılmış gridlerde görünür alanı tarar. Aramadan önce pager'da “sayfa başına” değeri 100’e çekilir.
+     * Arama önce tarayıcı içinde tek script ile yapılır ({@link SyncfusionGrid}: veri kaynağı → grid araması → DOM);
+     * script çalıştırılamazsa görünür alanı kaydırarak tarayan eski yönteme döner.
+     * Aramadan önce pager'da “sayfa başına” değeri 100’e çekilir.
      */
     public void clickEditForResourceByName(String displayName) {
         ensurePagerPageSize(100);
 
-        String target = fold(Objects.requireNonNull(displayName, "displayName"));
+        String target = TextNormalizer.fold(Objects.requireNonNull(displayName, "displayName"));
+
+        SyncfusionGrid.Match match = new SyncfusionGrid(driver, GRID_CSS).findRowByFirstCell(target, displayName.trim());
+        WebElement row = match != null ? match.row() : scrollToRowByFirstCell(target);
+        if (row == null) throw new NoSuchElementException("Kaynak bulunamadı: " + displayName);
+
+        ensureRowSwitchActive(row);
+
+        WebElement btn = match != null ? match.editButton() : null;
+        if (btn == null) {
+            try {
+                btn = row.findElement(By.xpath(".//button[@title='Düzenle' or contains(@class,'e-editbutton')]"));
+            } catch (NoSuchElementException e) {
+                List<WebElement> cells = row.findElements(By.cssSelector("td.e-rowcell"));
+                WebElement actionsCell = cells.size() >= 5
+                        ? cells.get(4)
+                        : row.findElement(By.cssSelector("td.e-rowcell.e-unboundcell.e-rightalign"));
+                By editBtn = By.xpath(".//button[@title='Düzenle' or contains(@class,'e-editbutton') or .//span[contains(@class,'e-edit')]]");
+                btn = new WebDriverWait(driver, SHORT)
+                        .until(ExpectedConditions.elementToBeClickable(actionsCell.findElement(editBtn)));
+            }
+        }
+        js().executeScript("arguments[0].scrollIntoView({block:'center'});", btn);
+        safeClick(btn);
+
+        new WebDriverWait(driver, TIMEOUT).until(d ->
+                !d.findElements(By.cssSelector("div.e-dlg-container.appointment-resources__dialog, div.e-dialog.e-dlg-modal")).isEmpty()
+        );
+    }
 
+    /** Eski yöntem: içerik alanını kaydırarak görünür satırların ilk hücresini tarar; bulunamazsa null. */
+    private WebElement scrollToRowByFirstCell(String target) {
         WebElement content = gridContent();
         long lastScrollTop = -1;
         int guard = 0;
@@ -248,33 +272,7 @@ public class AppointmentDefinitionsPage {
             for (WebElement row : visibleRows()) {
                 List<WebElement> cells = row.findElements(By.cssSelector("td.e-rowcell"));
                 if (cells.isEmpty()) continue;
-
-                String firstCellText = fold(cells.get(0).getText());
-                if (firstCellText.contains(target)) {
-
-                    ensureRowSwitchActive(row);
-
-                    WebElement actionsCell;
-                    try {
-                        WebElement btn = row.findElement(By.xpath(".//button[@title='Düzenle' or contains(@class,'e-editbutton')]"));
-                        js().executeScript("arguments[0].scrollIntoView({block:'center'});", btn);
-                        safeClick(btn);
-                    } catch (NoSuchElementException e) {
-                        actionsCell = cells.size() >= 5
-                                ? cells.get(4)
-                                : row.findElement(By.cssSelector("td.e-rowcell.e-unboundcell.e-rightalign"));
-                        By editBtn = By.xpath(".//button[@title='Düzenle' or contains(@class,'e-editbutton') or .//span[contains(@class,'e-edit')]]");
-                        WebElement btn = new WebDriverWait(driver, SHORT)
-                                .until(ExpectedConditions.elementToBeClickable(actionsCell.findElement(editBtn)));
-                        js().executeScript("arguments[0].scrollIntoView({block:'center'});", btn);
-                        safeClick(btn);
-                    }
-
-                    new WebDriverWait(driver, TIMEOUT).until(d ->
-                            !d.findElements(By.cssSelector("div.e-dlg-container.appointment-resources__dialog, div.e-dialog.e-dlg-modal")).isEmpty()
-                    );
-                    return;
-                }
+                if (TextNormalizer.fold(cells.get(0).getText()).contains(target)) return row;
             }
 
             Long st = (Long) js().executeScript(
@@ -286,17 +284,16 @@ public class AppointmentDefinitionsPage {
             );
             if (st == null || st == -1 || st == lastScrollTop) break;
             lastScrollTop = st;
-            try { Thread.sleep(50); } catch (InterruptedException ignored) {}
+            UiSettle.await(driver, "grid kaydırma", Duration.ofMillis(50), SCROLL_SETTLE_TIMEOUT);
         }
-
-        throw new NoSuchElementException("Kaynak bulunamadı: " + displayName);
+        return null;
     }
 
     // ----------------- Dialog / Sekme -----------------
 
     /** Açık diyalogta verilen sekme başlığına tıklar. */
     public void clickTabInDialog(String tabText) {
-        String wanted = fold(tabText);
+        String wanted = TextNormalizer.fold(tabText);
 
         By tabBar = By.cssSelector("div.e-control.e-toolbar.e-lib.e-tab-header");
         new WebDriverWait(driver, TIMEOUT).until(ExpectedConditions.presenceOfElementLocated(tabBar));
@@ -305,7 +302,7 @@ public class AppointmentDefinitionsPage {
         if (tabs.isEmpty()) tabs = driver.findElements(By.cssSelector("div.e-tab-header *"));
 
         for (WebElement t : tabs) {
-            String txt = fold(t.getText());
+            String txt = TextNormalizer.fold(t.getText());
             if (txt.contains(wanted)) {
                 js().executeScript("arguments[0].scrollIntoView({inline:'center',block:'center'});", t);
                 safeClick(t);
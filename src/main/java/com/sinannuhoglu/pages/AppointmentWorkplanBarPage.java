@@ -1,13 +1,19 @@
 package com.sinannuhoglu.pages;
 
+import com.sinannuhoglu.core.DomWaiter;
+import com.sinannuhoglu.core.ElementSnapshot;
+import com.sinannuhoglu.core.NetworkTracker;
+import com.sinannuhoglu.core.UiSettle;
+import com.sinannuhoglu.perf.ActionTimer;
+import com.sinannuhoglu.util.AppConfig;
+import com.sinannuhoglu.util.TextNormalizer;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.*;
 
-import java.text.Normalizer;
+import java.net.URI;
 import java.time.Duration;
 import java.util.List;
-import java.util.Locale;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -24,7 +30,12 @@ public class AppointmentWorkplanBarPage {
 
     private static final Duration TIMEOUT = Duration.ofSeconds(30);
     private static final Duration SHORT   = Duration.ofSeconds(8);
-    private static final Locale   TR      = Locale.forLanguageTag("tr");
+    /** Popup kaydırma döngüsünde tur başına yerleşme beklemesi. */
+    private static final Duration SCROLL_SETTLE_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final By LIST_ITEM       = By.cssSelector("li");
+    private static final By LIST_ITEM_PARTS = By.cssSelector("span,div");
+    private static final By LIST_ITEM_DIV   = By.cssSelector("div.e-list-item");
 
     private WebElement modalRoot;
 
@@ -53,7 +64,7 @@ public class AppointmentWorkplanBarPage {
                 "//div[contains(@class,'e-dlg-header')]//*[contains(normalize-space(.),'Takvim Planı Yönetimi') or contains(normalize-space(.),'Workplan Management')]"
         );
         try {
-            WebElement h = waitIgnoringStale.until(ExpectedConditions.visibilityOfElementLocated(header));
+            WebElement h = visible(header, TIMEOUT);
             modalRoot = h.findElement(By.xpath("./ancestor::div[contains(@class,'e-dlg-container')][1]"));
             return modalRoot;
         } catch (TimeoutException ignore) { }
@@ -107,9 +118,31 @@ public class AppointmentWorkplanBarPage {
         }
     }
 
+    /** Locator görünür olana kadar bekler (DomWaiter; desteklenmezse stale-toleranslı poll). */
+    private WebElement visible(By locator, Duration timeout) {
+        if (DomWaiter.isEnabled()) {
+            try { return DomWaiter.of(driver).await(DomWaiter.Condition.VISIBLE, timeout, locator); }
+            catch (UnsupportedOperationException ignore) { }
+        }
+        return new WebDriverWait(driver, timeout)
+                .ignoring(StaleElementReferenceException.class)
+                .until(ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    /** Eleman görünmez olana ya da DOM'dan ayrılana kadar bekler. */
+    private void gone(WebElement el, Duration timeout) {
+        if (DomWaiter.isEnabled()) {
+            try { DomWaiter.of(driver).awaitGone(el, timeout); return; }
+            catch (UnsupportedOperationException ignore) { }
+        }
+        new WebDriverWait(driver, timeout)
+                .ignoring(StaleElementReferenceException.class)
+                .until(ExpectedConditions.invisibilityOf(el));
+    }
+
     private void closePopupWithEsc() {
         new Actions(driver).sendKeys(Keys.ESCAPE).perform();
-        try { Thread.sleep(120); } catch (InterruptedException ignored) {}
+        UiSettle.await(driver, "popup kapanışı");
     }
 
     /** En alttaki açık Syncfusion popup'ı (dropdown/multiselect) */
@@ -130,20 +163,13 @@ public class AppointmentWorkplanBarPage {
         throw new NoSuchElementException("Açık dropdown/multiselect popup bulunamadı.");
     }
 
-    /** tr-aware normalize (küçült, boşluk sadele, diakritik kaldır) */
-    private String norm(String s) {
-        if (s == null) return "";
-        String t = s.toLowerCase(TR).replaceAll("\\s+", " ").trim();
-        return Normalizer.normalize(t, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
-    }
-
     private <T> T retryOnStale(Supplier<T> supplier) {
         RuntimeException last = null;
         for (int i = 0; i < 3; i++) {
             try { return supplier.get(); }
             catch (StaleElementReferenceException e) {
                 last = e;
-                try { Thread.sleep(150); } catch (InterruptedException ignored) {}
+                UiSettle.await(driver, "stale sonrası yeniden çizim");
             }
         }
         if (last != null) throw last;
@@ -208,7 +234,7 @@ public class AppointmentWorkplanBarPage {
         if (owns != null && !owns.isBlank()) {
             By open = By.cssSelector("div#" + owns + ".e-popup-open");
             try {
-                return new WebDriverWait(driver, TIMEOUT).until(ExpectedConditions.visibilityOfElementLocated(open));
+                return visible(open, TIMEOUT);
             } catch (TimeoutException ignore) { /* fallback'e düş */ }
             List<WebElement> any = driver.findElements(By.cssSelector("div#" + owns));
             for (WebElement el : any) if (el.isDisplayed()) return el;
@@ -244,7 +270,7 @@ public class AppointmentWorkplanBarPage {
             WebElement s = searchInputs.get(0);
             try { s.clear(); } catch (Exception ignore) {}
             s.sendKeys(branchName);
-            try { Thread.sleep(150); } catch (InterruptedException ignored) {}
+            UiSettle.await(driver, "şube filtresi");
         }
 
         WebElement item = findListItemByText(popup, branchName);
@@ -254,25 +280,25 @@ public class AppointmentWorkplanBarPage {
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'nearest'});", item);
         safeClick(item);
 
-        try { new WebDriverWait(driver, SHORT).until(ExpectedConditions.invisibilityOf(popup)); } catch (Exception ignore) {}
-        String want = norm(branchName);
-        w.until(d -> norm(getInputValue(ddl.input)).equals(want));
+        try { gone(popup, SHORT); } catch (Exception ignore) {}
+        String want = TextNormalizer.trNorm(branchName);
+        w.until(d -> TextNormalizer.trNorm(getInputValue(ddl.input)).equals(want));
     }
 
+    /** Popup öğelerini tek snapshot ile okuyup (metin, data-value, span/div metinleri) Java'da eşler. */
     private WebElement findListItemByText(WebElement popup, String expected) {
-        String want = norm(expected);
-
-        for (WebElement li : popup.findElements(By.cssSelector("li"))) {
-            String t = norm(li.getText());
-            if (t.equals(want)) return li;
-            String dv = li.getAttribute("data-value");
-            if (dv != null && norm(dv).equals(want)) return li;
-            for (WebElement s : li.findElements(By.cssSelector("span,div"))) {
-                if (norm(s.getText()).equals(want)) return li;
+        String want = TextNormalizer.trNorm(expected);
+
+        for (ElementSnapshot li : ElementSnapshot.take(driver, popup, LIST_ITEM, LIST_ITEM_PARTS, "data-value")) {
+            if (TextNormalizer.trNorm(li.text()).equals(want)) return li.element();
+            String dv = li.attr("data-value");
+            if (dv != null && TextNormalizer.trNorm(dv).equals(want)) return li.element();
+            for (String part : li.childTexts()) {
+                if (TextNormalizer.trNorm(part).equals(want)) return li.element();
             }
         }
-        for (WebElement d : popup.findElements(By.cssSelector("div.e-list-item"))) {
-            if (norm(d.getText()).equals(want)) return d;
+        for (ElementSnapshot d : ElementSnapshot.take(driver, popup, LIST_ITEM_DIV, null)) {
+            if (TextNormalizer.trNorm(d.text()).equals(want)) return d.element();
         }
         return null;
     }
@@ -301,7 +327,7 @@ public class AppointmentWorkplanBarPage {
             if (cur != null && cur == prev) break;
             prev = cur == null ? prev : cur;
 
-            try { Thread.sleep(120); } catch (InterruptedException ignored) {}
+            UiSettle.await(driver, "popup kaydırma", Duration.ofMillis(80), SCROLL_SETTLE_TIMEOUT);
         }
         return findListItemByText(popup, expected);
     }
@@ -324,7 +350,7 @@ public class AppointmentWorkplanBarPage {
     }
 
     private boolean popupShowsClearAll(WebElement popup) {
-        String n = norm(popup.getText());
+        String n = TextNormalizer.trNorm(popup.getText());
         return n.contains("tunun secimini kaldir") || n.contains("tümünün seçimini kaldır") || n.contains("clear all");
     }
 
@@ -406,19 +432,20 @@ public class AppointmentWorkplanBarPage {
                               KAYDET
        ============================================================ */
 
-    /** Sadece “Kaydet”. */
+    /** Sadece “Kaydet”; ağ izleyicisi bağlıysa kayıt isteğinin (/appointment-service/) bitmesi beklenir. */
     public void clickSave() {
         ensureVisible();
-        retryOnStale(() -> {
-            WebElement save = dlgContent().findElement(By.xpath(".//button[normalize-space(.)='Kaydet']"));
-            safeClick(save);
-            return true;
+        NetworkTracker tracker = NetworkTracker.of(driver);
+        long since = tracker != null ? tracker.mark() : 0L;
+        ActionTimer.time(ActionTimer.WORKPLAN_SAVE, () -> {
+            retryOnStale(() -> {
+                WebElement save = dlgContent().findElement(By.xpath(".//button[normalize-space(.)='Kaydet']"));
+                safeClick(save);
+                return true;
+            });
+            if (tracker != null) tracker.awaitRequest("/appointment-service/", since, "takvim planı kaydı");
+            try { gone(freshModalRoot(), Duration.ofSeconds(10)); } catch (Exception ignore) {}
         });
-        try {
-            new WebDriverWait(driver, Duration.ofSeconds(10))
-                    .ignoring(StaleElementReferenceException.class)
-                    .until(ExpectedConditions.invisibilityOf(freshModalRoot()));
-        } catch (Exception ignore) {}
     }
 
     /** “Kaydet” ve randevular sayfasına dön. */
@@ -426,7 +453,7 @@ public class AppointmentWorkplanBarPage {
         clickSave();
 
         final String targetPath = "/appointment-service/appointments";
-        final String targetUrl  = "https://testapp.doctorin.app" + targetPath;
+        final String targetUrl  = origin(AppConfig.baseUrl()) + targetPath;
 
         WebDriverWait w = new WebDriverWait(driver, Duration.ofSeconds(30));
         boolean redirected = false;
@@ -441,4 +468,10 @@ public class AppointmentWorkplanBarPage {
             w.until(ExpectedConditions.urlContains(targetPath));
         }
     }
+
+    /** baseUrl'in şema + host kısmı (login yolu atılır). */
+    private static String origin(String baseUrl) {
+        URI u = URI.create(baseUrl);
+        return u.getScheme() + "://" + u.getAuthority();
+    }
 }
@@ -2,17 +2,20 @@ package com.sinannuhoglu.pages;
 
 import com.sinannuhoglu.core.BasePage;
 import com.sinannuhoglu.core.ConfigReader;
+import com.sinannuhoglu.core.ElementSnapshot;
+import com.sinannuhoglu.perf.ActionTimer;
+import com.sinannuhoglu.util.TextNormalizer;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.text.Normalizer;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 public class AppointmentsPage extends BasePage {
 
@@ -31,10 +34,7 @@ public class AppointmentsPage extends BasePage {
     private final By PAGE_ANCHOR    = By.xpath("//main|//div[@id='appointments']|//h2[contains(.,'Randevu')]");
 
     // Schedule (Syncfusion)
-    private final By CONTENT_WRAP        = By.cssSelector("div[id^='Schedule-'] .e-table-container .e-content-wrap");
-    private final By DAY_VIEW_ROWS       = By.cssSelector("div[id^='Schedule-'] .e-table-container .e-content-wrap table.e-content-table tbody[role='rowgroup'] tr");
-    private final By WORK_CELL_GROUP0    = By.cssSelector("td.e-work-cells[data-group-index='0']");
-    private final By WORK_CELL_DEFAULT   = By.cssSelector("td.e-work-cells");
+    private final By CONTENT_WRAP = By.cssSelector(SchedulerGrid.CONTENT_WRAP_CSS);
 
     // Sidebar / Patient search
     private final By SIDEBAR_TITLE   = By.cssSelector("[data-testid='sidebar-title']");
@@ -59,6 +59,7 @@ public class AppointmentsPage extends BasePage {
     private final By APPOINTMENT_TILE_ANY = By.cssSelector("div.e-appointment.e-lib.e-draggable[role='button'][data-group-index='0']");
     private final By APPOINTMENT_TILE_BORDERED = By.cssSelector("div.e-appointment.e-lib.e-draggable.e-appointment-border[role='button'][data-group-index='0']");
     private final By APPOINTMENT_DETAILS = By.cssSelector(".e-appointment-details");
+    private final By APPOINTMENT_TIME_TEXT = By.cssSelector(".e-appointment-details span.text-xs");
     private final By APPOINTMENT_EVENT_ICON = By.cssSelector("[data-testid='event-icon']");
     private final By QUICK_POPUP = By.cssSelector(".e-quick-popup-wrapper.e-lib.e-popup[role='dialog']");
     private final By QUICK_POPUP_HEADER = By.cssSelector(".e-popup-header-title-text, [data-testid='quick-info-header'] .font-semibold");
@@ -96,18 +97,17 @@ public class AppointmentsPage extends BasePage {
         return minutes * 60_000L;
     }
 
-    /** Sayfanın yüklendiğini doğrular. */
+    /** Sayfanın yüklendiğini doğrular; modül tıklamasıyla başlayan yükleme ölçümü varsa kapatır. */
     public AppointmentsPage assertLoaded() {
-        wait.until(ExpectedConditions.visibilityOfElementLocated(PAGE_ANCHOR));
+        waitVisible(PAGE_ANCHOR);
+        ActionTimer.stop(ActionTimer.APPOINTMENTS_LOAD);
         return this;
     }
 
     private boolean isFilterPanelOpen() {
         try {
-            return new WebDriverWait(driver, Duration.ofSeconds(2)).until(d -> {
-                List<WebElement> els = d.findElements(PANEL_SENTINEL);
-                return !els.isEmpty() && els.get(0).isDisplayed();
-            });
+            waitVisible(PANEL_SENTINEL, 2);
+            return true;
         } catch (TimeoutException e) { return false; }
     }
     private void ensureFilterPanelOpen() { if (!isFilterPanelOpen()) openFilterPanel(); }
@@ -168,32 +168,23 @@ public class AppointmentsPage extends BasePage {
         );
     }
 
-    private static String normalizeLike(String s) {
-        if (s == null) return "";
-        String t = s.trim().replace('\u00A0', ' ').replaceAll("\\s+", " ");
-        t = t.replace('İ','I').replace('ı','i');
-        t = Normalizer.normalize(t, Normalizer.Form.NFD).replaceAll("\\p{M}+","");
-        return t.toLowerCase();
-    }
-    private static boolean textLike(String a, String b) {
-        String na = normalizeLike(a), nb = normalizeLike(b);
-        return na.equals(nb) || na.contains(nb) || nb.contains(na);
-    }
-
     // ---------- Dropdown helpers ----------
+    private static final List<By> DROPDOWN_POPUP_CANDIDATES = List.of(
+            By.cssSelector("div[id$='_popup'].e-popup"),
+            By.cssSelector(".e-popup-open"),
+            By.cssSelector(".e-dropdownbase .e-content"),
+            By.cssSelector("ul[role='listbox']"),
+            By.cssSelector(".e-list-parent")
+    );
+    private static final By DROPDOWN_OPTION = By.cssSelector("li[role='option'], .e-list-item");
+
+    /** Görünür seçeneği olan ilk popup; aday grubu başına tek snapshot (alt seçenek metinleriyle birlikte). */
     private WebElement detectOpenDropdownPopup() {
         return waitShort().until(d -> {
-            List<WebElement> candidates = new ArrayList<>();
-            candidates.addAll(d.findElements(By.cssSelector("div[id$='_popup'].e-popup")));
-            candidates.addAll(d.findElements(By.cssSelector(".e-popup-open")));
-            candidates.addAll(d.findElements(By.cssSelector(".e-dropdownbase .e-content")));
-            candidates.addAll(d.findElements(By.cssSelector("ul[role='listbox']")));
-            candidates.addAll(d.findElements(By.cssSelector(".e-list-parent")));
-            for (WebElement c : candidates) {
+            for (By group : DROPDOWN_POPUP_CANDIDATES) {
                 try {
-                    if (!c.isDisplayed()) continue;
-                    for (WebElement li : c.findElements(By.cssSelector("li[role='option'], .e-list-item"))) {
-                        if (li.isDisplayed() && li.getRect().getHeight() > 0) return c;
+                    for (ElementSnapshot c : snapshot(null, group, DROPDOWN_OPTION)) {
+                        if (c.displayed() && !c.childTexts().isEmpty()) return c.element();
                     }
                 } catch (StaleElementReferenceException ignored) {}
             }
@@ -251,14 +242,14 @@ public class AppointmentsPage extends BasePage {
                 try {
                     WebElement finalPopup = popup;
                     WebElement ready = waitShort().until(d -> {
-                        for (WebElement li : finalPopup.findElements(By.cssSelector("li[role='option'], .e-list-item")))
-                            if (li.isDisplayed() && li.getRect().getHeight() > 0) return li;
+                        for (ElementSnapshot li : snapshot(finalPopup, DROPDOWN_OPTION, null))
+                            if (li.visible()) return li.element();
                         return null;
                     });
                     if (ready != null) return popup;
                 } catch (TimeoutException ignored) {}
             }
-            try { Thread.sleep(250); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+            waitUiSettled("dropdown popup");
         }
         throw new TimeoutException("Dropdown popup açılmadı.");
     }
@@ -325,17 +316,21 @@ public class AppointmentsPage extends BasePage {
     }
 
     // ---------- Chips & Apply ----------
+    private static final By DOCTOR_CHIP   = By.cssSelector(".e-chips-collection .e-chips");
+    private static final By CHIP_CONTENT  = By.cssSelector(".e-chipcontent");
+
     private List<WebElement> getDoctorChips(WebElement doctorBlock) {
-        return new ArrayList<>(doctorBlock.findElements(By.cssSelector(".e-chips-collection .e-chips")));
+        return new ArrayList<>(doctorBlock.findElements(DOCTOR_CHIP));
     }
-    private String chipLabel(WebElement chip) {
-        try {
-            String title = chip.getAttribute("title");
-            if (title != null && !title.isBlank()) return title.trim();
-        } catch (Exception ignored) {}
-        try { return chip.findElement(By.cssSelector(".e-chipcontent")).getText().trim(); }
-        catch (Exception ignored) {}
-        return chip.getText().trim();
+    /** Chip'ler tek script ile: title ve .e-chipcontent metni birlikte okunur. */
+    private List<ElementSnapshot> doctorChipSnapshots(WebElement doctorBlock) {
+        return snapshot(doctorBlock, DOCTOR_CHIP, CHIP_CONTENT, "title");
+    }
+    private static String chipLabel(ElementSnapshot chip) {
+        String title = chip.attr("title");
+        if (title != null && !title.isBlank()) return title.trim();
+        if (!chip.childTexts().isEmpty()) return chip.childTexts().get(0).trim();
+        return chip.text().trim();
     }
     private void closeChip(WebElement chip, WebElement doctorBlock) {
         int before = getDoctorChips(doctorBlock).size();
@@ -359,7 +354,7 @@ public class AppointmentsPage extends BasePage {
         if (btn == null) throw new NoSuchElementException("'Kabul et/Uygula/Kaydet' butonu bulunamadı.");
         try { wait.until(ExpectedConditions.elementToBeClickable(btn)).click(); }
         catch (Exception e) { jsClick(btn); }
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(FILTER_BUTTONS));
+        waitInvisible(FILTER_BUTTONS);
     }
 
     /** Yalnızca verilen doktor chip’i kalacak şekilde diğerlerini kapatır ve uygular. */
@@ -373,25 +368,25 @@ public class AppointmentsPage extends BasePage {
         scrollIntoView(block);
 
         for (int guard = 0; guard < 20; guard++) {
-            List<WebElement> chips = getDoctorChips(block);
+            List<ElementSnapshot> chips = doctorChipSnapshots(block);
             if (chips.isEmpty()) break;
 
             WebElement toClose = null;
             int targetCount = 0;
-            for (WebElement chip : chips) {
+            for (ElementSnapshot chip : chips) {
                 String label = chipLabel(chip);
                 if (label.equalsIgnoreCase(doctorFullName.trim())) targetCount++;
-                else { toClose = chip; break; }
+                else { toClose = chip.element(); break; }
             }
 
             if (toClose != null) { closeChip(toClose, block); continue; }
-            if (targetCount > 1) { closeChip(chips.get(0), block); continue; }
+            if (targetCount > 1) { closeChip(chips.get(0).element(), block); continue; }
 
             if (chips.size() == 1 && targetCount == 1) {
                 clickAcceptAndWaitClose();
                 return;
             }
-            try { Thread.sleep(200); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+            waitUiSettled("doktor chip");
         }
         throw new AssertionError("Beklenen tek chip bulunamadı: " + doctorFullName);
     }
@@ -404,76 +399,17 @@ public class AppointmentsPage extends BasePage {
 
     // ---------- Slot click & drawer ----------
 
-    /** Grid satırları `:30` ile mi başlıyor, `:00` ile mi? (dinamik tespit) */
-    private boolean isHalfHourRowFirst() {
-        try {
-            WebElement wrap = waitVisible(CONTENT_WRAP);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollTop=0;", wrap);
-        } catch (Exception ignored) {}
-
-        List<WebElement> rows = dayRows();
-        if (rows == null || rows.isEmpty()) return false;
-
-        WebElement tr = rows.get(0);
-        WebElement td;
-        List<WebElement> group0 = tr.findElements(WORK_CELL_GROUP0);
-        if (!group0.isEmpty()) td = group0.get(0);
-        else {
-            List<WebElement> any = tr.findElements(WORK_CELL_DEFAULT);
-            td = !any.isEmpty() ? any.get(0) : tr.findElement(By.cssSelector("td"));
-        }
-
-        String al = null;
-        try { al = td.getAttribute("aria-label"); } catch (Exception ignored) {}
-        if (al == null || al.isBlank()) {
-            try { al = td.getText(); } catch (Exception ignored) {}
-        }
-        if (al == null) return false;
-
-        return al.contains(":30") || al.contains(".30");
-    }
-
-    /** 0..23 saat, firstHalf=true => HH:00; false => HH:30. Dinamik sıra ile 1-bazlı satır index’i. */
-    private int trIndexForHourDynamic(int hour, boolean firstHalf) {
-        if (hour < 0 || hour > 23) throw new IllegalArgumentException("hour 0..23 olmalı");
-        boolean halfFirst = isHalfHourRowFirst();
-        int base = 2 * hour;
-        if (halfFirst) {
-            return base + (firstHalf ? 2 : 1);
-        } else {
-            return base + (firstHalf ? 1 : 2);
-        }
-    }
-
-    private List<WebElement> dayRows() {
-        return wait.until(d -> {
-            List<WebElement> rows = d.findElements(DAY_VIEW_ROWS);
-            return (rows != null && rows.size() >= 48) ? rows : null;
-        });
-    }
-    private WebElement rowTdAt(int oneBasedIndex) {
-        List<WebElement> rows = dayRows();
-        if (rows == null || rows.size() < oneBasedIndex)
-            throw new NoSuchElementException("Satır index bulunamadı: " + oneBasedIndex);
-        WebElement tr = rows.get(oneBasedIndex - 1);
-        try {
-            WebElement wrap = waitVisible(CONTENT_WRAP);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollTop = Math.max(arguments[1]-100,0);",
-                    wrap, tr.getLocation().getY());
-        } catch (Exception ignore) { scrollIntoView(tr); }
-        List<WebElement> group0 = tr.findElements(WORK_CELL_GROUP0);
-        if (!group0.isEmpty()) return group0.get(0);
-        List<WebElement> any = tr.findElements(WORK_CELL_DEFAULT);
-        if (!any.isEmpty()) return any.get(0);
-        return tr.findElement(By.cssSelector("td"));
+    /** Scheduler grid sorguları (tek script ile satır/hücre bulma). */
+    private SchedulerGrid grid() {
+        return new SchedulerGrid(driver, Duration.ofSeconds(timeoutSec));
     }
 
     private void clickCellAndWaitSidebar(WebElement td) {
         try { wait.until(ExpectedConditions.elementToBeClickable(td)).click(); }
         catch (Exception e) { jsClick(td); }
 
-        WebElement title = wait.until(ExpectedConditions.visibilityOfElementLocated(SIDEBAR_TITLE));
-        wait.until(ExpectedConditions.visibilityOfElementLocated(SIDEBAR_CONTENT));
+        WebElement title = waitVisible(SIDEBAR_TITLE);
+        waitVisible(SIDEBAR_CONTENT);
         wait.until(d -> {
             try {
                 if (!title.isDisplayed()) return false;
@@ -486,48 +422,12 @@ public class AppointmentsPage extends BasePage {
         });
     }
 
-    /** Görünen alanda tüm TD’leri gezerek hedef zamanı bulan (XPath’siz) tarayıcı. Bulamazsa kaydırarak devam eder. */
-    private WebElement findCellByTimeScrolling(int hour24, int minute) {
-        String hmColon = String.format("%02d:%02d", hour24, minute);
-        String hmDot   = String.format("%02d.%02d", hour24, minute);
-
-        WebElement wrap = waitVisible(CONTENT_WRAP);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollTop=0;", wrap);
-
-        long last = -1;
-        for (int guard = 0; guard < 220; guard++) {
-            List<WebElement> visibleCells = driver.findElements(By.cssSelector("td.e-work-cells[data-group-index='0']"));
-            for (WebElement el : visibleCells) {
-                try {
-                    if (!el.isDisplayed() || el.getRect().getHeight() <= 0) continue;
-                    String al = el.getAttribute("aria-label");
-                    String txt = el.getText();
-                    if ((al != null && (al.contains(hmColon) || al.contains(hmDot))) ||
-                            (txt != null && (txt.contains(hmColon) || txt.contains(hmDot)))) {
-                        return el;
-                    }
-                } catch (StaleElementReferenceException ignored) {}
-            }
-
-            Long st = (Long) ((JavascriptExecutor) driver).executeScript(
-                    "var el=arguments[0]; var max=el.scrollHeight-el.clientHeight;" +
-                            "if(el.scrollTop>=max){return -1;} el.scrollTop=Math.min(el.scrollTop+Math.max(100, el.clientHeight*0.8), max); return el.scrollTop;",
-                    wrap
-            );
-            if (st == null || st == -1 || st == last) break;
-            last = st;
-            try { Thread.sleep(40); } catch (InterruptedException ignored) {}
-        }
-        return null;
-    }
-
     /** Grid’de slot’a tıklar ve drawer’ın görünmesini bekler. */
     public void clickSlot(int hour, boolean firstHalf) {
         this.lastSlotHour = hour;
         this.lastSlotFirstHalf = firstHalf;
 
-        int idx = trIndexForHourDynamic(hour, firstHalf);
-        WebElement td = rowTdAt(idx);
+        WebElement td = grid().workCellForSlot(hour, firstHalf);
         clickCellAndWaitSidebar(td);
     }
 
@@ -536,7 +436,7 @@ public class AppointmentsPage extends BasePage {
 
     // ---------- Patient search & quick popup ----------
     private void clickSearchButton() {
-        WebElement sidebar = wait.until(ExpectedConditions.visibilityOfElementLocated(SIDEBAR_CONTENT));
+        WebElement sidebar = waitVisible(SIDEBAR_CONTENT);
         List<WebElement> inScope = sidebar.findElements(SEARCH_BUTTON);
         WebElement btn = !inScope.isEmpty() ? inScope.get(0) : null;
         if (btn == null) {
@@ -549,7 +449,7 @@ public class AppointmentsPage extends BasePage {
     }
 
     private void waitResultsAppear() {
-        try { Thread.sleep(1200); } catch (InterruptedException ignored) {}
+        waitUiSettled("hasta arama sonuçları");
         waitMedium().until(d -> {
             for (WebElement el : d.findElements(PATIENT_RESULT_NAME)) {
                 try { if (el.isDisplayed() && el.getRect().getHeight() > 0) return true; } catch (Exception ignored) {}
@@ -583,7 +483,7 @@ public class AppointmentsPage extends BasePage {
         for (WebElement e : nameEls) {
             String t = e.getAttribute("title");
             if (t == null || t.isBlank()) t = e.getText();
-            if (t != null && textLike(t, fullName)) { nameTarget = e; break; }
+            if (t != null && TextNormalizer.likeMatches(t, fullName)) { nameTarget = e; break; }
         }
         if (nameTarget == null) nameTarget = nameEls.get(0);
 
@@ -630,9 +530,9 @@ public class AppointmentsPage extends BasePage {
     private void clickSaveOnForm() {
         WebElement actionsArea;
         try {
-            actionsArea = waitShort().until(ExpectedConditions.visibilityOfElementLocated(FORM_ACTIONS));
+            actionsArea = waitVisible(FORM_ACTIONS, 5);
         } catch (TimeoutException e) {
-            actionsArea = waitMedium().until(ExpectedConditions.visibilityOfElementLocated(FORM_CONTAINER));
+            actionsArea = waitVisible(FORM_CONTAINER, 20);
         }
         scrollIntoView(actionsArea);
 
@@ -667,63 +567,56 @@ public class AppointmentsPage extends BasePage {
     }
 
     // ---------- Quick popup helpers ----------
-    private String timeTextOfTile(WebElement tile) {
-        try {
-            WebElement details = tile.findElement(APPOINTMENT_DETAILS);
-            for (WebElement s : details.findElements(By.cssSelector("span.text-xs"))) {
-                String t = s.getText().trim();
-                if (t.matches("\\d{2}:\\d{2}\\s*-\\s*\\d{2}:\\d{2}")) return t;
-            }
-        } catch (Exception ignored) {}
+    private static final Pattern TILE_TIME_RANGE = Pattern.compile("\\d{2}:\\d{2}\\s*-\\s*\\d{2}:\\d{2}");
+
+    private String timeTextOfTile(ElementSnapshot tile) {
+        for (String t : tile.childTexts()) {
+            String s = t.trim();
+            if (TILE_TIME_RANGE.matcher(s).matches()) return s;
+        }
         return null;
     }
-    private boolean tileMatchesStart(WebElement tile, String hhmm, long startMs) {
+    private boolean tileMatchesStart(ElementSnapshot tile, String hhmm, long startMs) {
         String tt = timeTextOfTile(tile);
         if (tt != null && tt.startsWith(hhmm)) return true;
 
-        try {
-            String aria = tile.getAttribute("aria-label");
-            if (aria != null && aria.contains(hhmm + ":00")) return true;
-        } catch (Exception ignored) {}
+        String aria = tile.attr("aria-label");
+        if (aria != null && aria.contains(hhmm + ":00")) return true;
 
+        String d = tile.attr("data-top-start-duration");
+        if (d != null && !d.isBlank()) {
+            try { if (Long.parseLong(d.trim()) == startMs) return true; }
+            catch (NumberFormatException ignored) {}
+        }
+        return false;
+    }
+    /** Randevu kutuları tek snapshot ile okunur (zaman metni, aria-label, data attr, style). */
+    private List<ElementSnapshot> tileSnapshots(By tiles) {
+        return snapshot(null, tiles, APPOINTMENT_TIME_TEXT, "aria-label", "data-top-start-duration", "style");
+    }
+    private static int styleTop(ElementSnapshot tile) {
         try {
-            String d = tile.getAttribute("data-top-start-duration");
-            if (d != null && !d.isBlank()) {
-                long val = Long.parseLong(d.trim());
-                if (val == startMs) return true;
+            String style = tile.attr("style");
+            int i = style.indexOf("top:");
+            if (i >= 0) {
+                String sub = style.substring(i).replaceAll("[^0-9]", " ").trim().split("\\s+")[0];
+                return Integer.parseInt(sub);
             }
         } catch (Exception ignored) {}
-        return false;
+        return 0;
     }
     private WebElement appointmentTileByTime(String hhmm, long startMs) {
-        List<WebElement> preferred = driver.findElements(APPOINTMENT_TILE_BORDERED);
-        List<WebElement> okPreferred = new ArrayList<>();
-        for (WebElement t : preferred) {
-            try {
-                if (t.isDisplayed() && t.getRect().getHeight() > 0 && tileMatchesStart(t, hhmm, startMs))
-                    okPreferred.add(t);
-            } catch (Exception ignored) {}
+        List<ElementSnapshot> okPreferred = new ArrayList<>();
+        for (ElementSnapshot t : tileSnapshots(APPOINTMENT_TILE_BORDERED)) {
+            if (t.visible() && tileMatchesStart(t, hhmm, startMs)) okPreferred.add(t);
         }
         if (!okPreferred.isEmpty()) {
-            okPreferred.sort(Comparator.comparingInt(o -> {
-                try {
-                    String style = o.getAttribute("style");
-                    int i = style.indexOf("top:");
-                    if (i >= 0) {
-                        String sub = style.substring(i).replaceAll("[^0-9]", " ").trim().split("\\s+")[0];
-                        return Integer.parseInt(sub);
-                    }
-                } catch (Exception ignored) {}
-                return 0;
-            }));
-            return okPreferred.get(okPreferred.size() - 1);
+            okPreferred.sort(Comparator.comparingInt(AppointmentsPage::styleTop));
+            return okPreferred.get(okPreferred.size() - 1).element();
         }
 
-        for (WebElement t : driver.findElements(APPOINTMENT_TILE_ANY)) {
-            try {
-                if (t.isDisplayed() && t.getRect().getHeight() > 0 && tileMatchesStart(t, hhmm, startMs))
-                    return t;
-            } catch (Exception ignored) {}
+        for (ElementSnapshot t : tileSnapshots(APPOINTMENT_TILE_ANY)) {
+            if (t.visible() && tileMatchesStart(t, hhmm, startMs)) return t.element();
         }
         return null;
     }
@@ -742,7 +635,7 @@ public class AppointmentsPage extends BasePage {
         });
     }
     private void waitQuickPopupReady() {
-        waitMedium().until(ExpectedConditions.visibilityOfElementLocated(QUICK_POPUP));
+        waitVisible(QUICK_POPUP, 20);
         waitMedium().until(d -> {
             try { for (WebElement h : d.findElements(QUICK_POPUP_HEADER)) if (h.isDisplayed()) return true; } catch (Exception ignored) {}
             try { WebElement f = d.findElement(APPOINTMENT_FOOTER); if (f.isDisplayed()) return true; } catch (Exception ignored) {}
@@ -787,11 +680,11 @@ public class AppointmentsPage extends BasePage {
     }
     private boolean isStatusGeldiText(String t) {
         if (t == null) return false;
-        String n = normalizeLike(t);
+        String n = TextNormalizer.like(t);
         return n.contains("geldi") || n.contains("tamamlandi");
     }
     private boolean isStatusBekliyorText(String t) {
-        return t != null && normalizeLike(t).contains("bekliyor");
+        return t != null && TextNormalizer.like(t).contains("bekliyor");
     }
     private WebElement visibleCheckinButton() {
         for (WebElement b : driver.findElements(CHECKIN_BUTTON)) {
@@ -820,7 +713,7 @@ public class AppointmentsPage extends BasePage {
             for (WebElement c : driver.findElements(QUICK_POPUP_CLOSE)) {
                 if (c.isDisplayed()) {
                     try { c.click(); } catch (Exception e) { jsClick(c); }
-                    waitTiny().until(ExpectedConditions.invisibilityOfElementLocated(QUICK_POPUP));
+                    waitInvisible(QUICK_POPUP, 2);
                     return;
                 }
             }
@@ -829,7 +722,7 @@ public class AppointmentsPage extends BasePage {
             WebElement backdrop = driver.findElement(By.cssSelector("body"));
             new Actions(driver).moveByOffset(5,5).click(backdrop).perform();
         } catch (Exception ignored) {}
-        try { waitTiny().until(ExpectedConditions.invisibilityOfElementLocated(QUICK_POPUP)); } catch (Exception ignored) {}
+        try { waitInvisible(QUICK_POPUP, 2); } catch (Exception ignored) {}
     }
 
     private void assertStatusGeldi() {
@@ -838,7 +731,7 @@ public class AppointmentsPage extends BasePage {
         String lastSeen = null;
 
         while (System.currentTimeMillis() < overallDeadline) {
-            try { waitTiny().until(ExpectedConditions.visibilityOfElementLocated(QUICK_POPUP)); }
+            try { waitVisible(QUICK_POPUP, 2); }
             catch (TimeoutException te) { openQuickPopupFromSameSlot(); }
 
             long innerDeadline = System.currentTimeMillis() + 12_000;
@@ -859,10 +752,10 @@ public class AppointmentsPage extends BasePage {
                         String after = getStatusTextFromQuickPopup();
                         if (after != null) lastSeen = after;
                         if (isStatusGeldiText(after)) return;
-                        try { Thread.sleep(400); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+                        waitUiSettled("check-in durumu");
                     }
                 }
-                try { Thread.sleep(350); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+                waitUiSettled("quick popup durumu");
             }
             closeQuickPopupIfOpen();
             openQuickPopupFromSameSlot();
@@ -891,8 +784,7 @@ public class AppointmentsPage extends BasePage {
         WebElement tile = null;
         try {
             tile = waitShort().until(d -> {
-                WebElement t = appointmentTileByTime(hhmm, startMs);
-                return (t != null && t.isDisplayed()) ? t : null;
+                return appointmentTileByTime(hhmm, startMs);
             });
         } catch (TimeoutException ignored) {}
 
@@ -901,8 +793,7 @@ public class AppointmentsPage extends BasePage {
         }
 
         if (tile == null) {
-            int idx = trIndexForHourDynamic(lastSlotHour, lastSlotFirstHalf);
-            WebElement td = rowTdAt(idx);
+            WebElement td = grid().workCellForSlot(lastSlotHour, lastSlotFirstHalf);
             clickCellAndWaitSidebar(td);
             waitQuickPopupReady();
             return;
@@ -913,8 +804,8 @@ public class AppointmentsPage extends BasePage {
     // ---------- Public E2E APIs ----------
 
     public void searchPatientInSidebar(String fullName) {
-        wait.until(ExpectedConditions.visibilityOfElementLocated(SIDEBAR_TITLE));
-        WebElement sidebar = wait.until(ExpectedConditions.visibilityOfElementLocated(SIDEBAR_CONTENT));
+        waitVisible(SIDEBAR_TITLE);
+        WebElement sidebar = waitVisible(SIDEBAR_CONTENT);
 
         WebElement input = wait.until(d -> {
             List<WebElement> a = d.findElements(PATIENT_SEARCH_INPUT);
@@ -943,12 +834,14 @@ public class AppointmentsPage extends BasePage {
             if (v == null || v.isBlank()) { input.click(); input.clear(); input.sendKeys(fullName); }
         } catch (Exception ignored) {}
         wait.until(d -> {
-            try { return textLike(input.getAttribute("value"), fullName); }
+            try { return TextNormalizer.likeMatches(input.getAttribute("value"), fullName); }
             catch (StaleElementReferenceException e) { return false; }
         });
 
-        clickSearchButton();
-        waitResultsAppear();
+        ActionTimer.time(ActionTimer.PATIENT_SEARCH, () -> {
+            clickSearchButton();
+            waitResultsAppear();
+        });
 
         clickPatientResultItem(sidebar, fullName);
         clickSaveOnForm();
@@ -1049,7 +942,7 @@ public class AppointmentsPage extends BasePage {
                 return true;
             } catch (Exception ex) { return true; }
         });
-        try { waitShort().until(ExpectedConditions.invisibilityOfElementLocated(QUICK_POPUP)); } catch (Exception ignored) {}
+        try { waitInvisible(QUICK_POPUP, 5); } catch (Exception ignored) {}
     }
 
     /** HH:00 veya HH:30 formatındaki gerçek zamanı hedef slot hücresine tıkla.
@@ -1060,11 +953,11 @@ public class AppointmentsPage extends BasePage {
         if (hour24 < 0 || hour24 > 23)
             throw new IllegalArgumentException("Saat 0..23 olmalı. Verilen: " + hour24);
 
-        WebElement cell = findCellByTimeScrolling(hour24, minute);
+        waitVisible(CONTENT_WRAP);
+        WebElement cell = grid().findWorkCellByTime(hour24, minute);
         if (cell != null) {
             this.lastSlotHour = hour24;
             this.lastSlotFirstHalf = (minute == 0);
-            scrollIntoView(cell);
             clickCellAndWaitSidebar(cell);
             return;
         }
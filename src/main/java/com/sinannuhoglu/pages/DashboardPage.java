@@ -1,6 +1,8 @@
 package com.sinannuhoglu.pages;
 
 import com.sinannuhoglu.core.BasePage;
+import com.sinannuhoglu.perf.ActionTimer;
+import com.sinannuhoglu.perf.WebVitals;
 import org.openqa.selenium.*;
 
 /**
@@ -41,15 +43,16 @@ public class DashboardPage extends BasePage {
         }
     }
 
-    /** Randevular modülünü açar ve sayfanın yüklendiğini doğrulayarak döner. */
+    /** Randevular modülünü açar ve sayfanın yüklendiğini doğrulayarak döner (tıklamadan yüklenmeye süre ölçülür). */
     public AppointmentsPage openAppointments() {
         waitVisible(appointmentModuleByHref);
+        ActionTimer.start(ActionTimer.APPOINTMENTS_LOAD);
         clickWithFallback(appointmentModuleByHref);
 
-        for (int i = 0; i < 20; i++) {
-            if (driver.getCurrentUrl().contains("/appointment-service/appointments")) break;
-            try { Thread.sleep(500); } catch (InterruptedException ignored) {}
-        }
-        return new AppointmentsPage(driver).assertLoaded();
+        try { waitUntilUrlContains("/appointment-service/appointments", 10); } catch (TimeoutException ignored) {}
+        waitUiSettled("randevular açılışı");
+        AppointmentsPage page = new AppointmentsPage(driver).assertLoaded();
+        WebVitals.sample(driver, "DashboardPage.openAppointments");
+        return page;
     }
 }
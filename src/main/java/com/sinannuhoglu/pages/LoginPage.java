@@ -1,6 +1,8 @@
 package com.sinannuhoglu.pages;
 
 import com.sinannuhoglu.core.BasePage;
+import com.sinannuhoglu.core.NetworkTracker;
+import com.sinannuhoglu.perf.WebVitals;
 import com.sinannuhoglu.util.AppConfig;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -37,6 +39,7 @@ public class LoginPage extends BasePage {
             hardStopLoading();
             ensureLoginUi(8);
         }
+        WebVitals.sample(driver, "LoginPage.open");
         return this;
     }
 
@@ -157,6 +160,8 @@ public class LoginPage extends BasePage {
                 return modulesHeader || leftRail || anyPanel;
             } catch (Exception ignore) { return false; }
         });
+        // izleyici bağlıysa dashboard'un açılış XHR'ları da bitsin (sonraki adım boş modül listesine düşmesin)
+        if (NetworkTracker.of(driver) != null) waitNetworkIdle("login sonrası");
     }
 
     private boolean present(By locator, int seconds) {
@@ -0,0 +1,102 @@
+package com.sinannuhoglu.pages;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Syncfusion Scheduler (gün görünümü) grid'i için tek gidiş-dönüşlük sorgular.
+ * <p>
+ * Satır/hücre taraması, yarım saat sırası tespiti ve kaydırma tarayıcı içinde tek script ile
+ * yapılır; eleman başına isDisplayed/getRect/getAttribute çağrıları yapılmaz.
+ * Her çağrının süresi {@code [SchedulerGrid] ... ms} olarak loglanır.
+ */
+public final class SchedulerGrid {
+
+    static final String CONTENT_WRAP_CSS = "div[id^='Schedule-'] .e-table-container .e-content-wrap";
+    static final String DAY_ROWS_CSS     = CONTENT_WRAP_CSS + " table.e-content-table tbody[role='rowgroup'] tr";
+
+    /** Gün görünümünde beklenen en az satır (24 saat × 2 yarım saat). */
+    private static final int MIN_ROWS = 48;
+
+    private static final String HELPERS =
+            "function cell(tr){return tr.querySelector(\"td.e-work-cells[data-group-index='0']\")" +
+            "||tr.querySelector('td.e-work-cells')||tr.querySelector('td');}" +
+            "function label(td){var a=td.getAttribute('aria-label');return (a&&a.trim())?a:(td.innerText||td.textContent||'');}";
+
+    /** args: rowsCss, wrapCss, minRows, hour, firstHalf (grid :30 ile başlıyorsa index kaydırılır) */
+    private static final String SLOT_SCRIPT = HELPERS +
+            "var rows=document.querySelectorAll(arguments[0]);if(rows.length<arguments[2])return null;" +
+            "var wrap=document.querySelector(arguments[1]),hour=arguments[3],first=arguments[4];" +
+            "var c0=cell(rows[0]),l0=c0?label(c0):'',halfFirst=l0.indexOf(':30')>=0||l0.indexOf('.30')>=0;" +
+            "var idx=2*hour+(halfFirst?(first?2:1):(first?1:2));" +
+            "if(idx>rows.length)return {error:'Satır index bulunamadı: '+idx};" +
+            "var tr=rows[idx-1],td=cell(tr);" +
+            "if(wrap){var top=tr.getBoundingClientRect().top-wrap.getBoundingClientRect().top+wrap.scrollTop;" +
+            " wrap.scrollTop=Math.max(top-100,0);}else{tr.scrollIntoView({block:'center'});}" +
+            "return {cell:td};";
+
+    /** args: wrapCss, 'HH:mm', 'HH.mm'; bulunana ya da grid sonuna kadar kaydırarak tarar. */
+    private static final String FIND_BY_TIME_SCRIPT =
+            "var wrap=document.querySelector(arguments[0]),hc=arguments[1],hd=arguments[2],done=arguments[arguments.length-1];" +
+            "if(!wrap){done(null);return;}" +
+            "function match(){var cs=document.querySelectorAll(\"td.e-work-cells[data-group-index='0']\");" +
+            " for(var i=0;i<cs.length;i++){var td=cs[i];if(td.getBoundingClientRect().height<=0)continue;" +
+            "  var al=td.getAttribute('aria-label')||'',tx=td.innerText||'';" +
+            "  if(al.indexOf(hc)>=0||al.indexOf(hd)>=0||tx.indexOf(hc)>=0||tx.indexOf(hd)>=0)return td;}" +
+            " return null;}" +
+            "wrap.scrollTop=0;var last=-1,guard=0;" +
+            "(function step(){var td=match();if(td){td.scrollIntoView({block:'center'});done(td);return;}" +
+            " var max=wrap.scrollHeight-wrap.clientHeight;" +
+            " if(wrap.scrollTop>=max||wrap.scrollTop===last||++guard>220){done(null);return;}" +
+            " last=wrap.scrollTop;wrap.scrollTop=Math.min(wrap.scrollTop+Math.max(100,wrap.clientHeight*0.8),max);" +
+            " requestAnimationFrame(function(){setTimeout(step,0);});})();";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    public SchedulerGrid(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    /** Hedef saat/yarım için work-cell'i bulur, satırı görünür alana kaydırır. */
+    public WebElement workCellForSlot(int hour, boolean firstHalf) {
+        if (hour < 0 || hour > 23) throw new IllegalArgumentException("hour 0..23 olmalı");
+        return (WebElement) slot(hour, firstHalf, "workCellForSlot(" + hour + (firstHalf ? ":00" : ":30") + ")").get("cell");
+    }
+
+    /**
+     * aria-label/metni HH:mm (veya HH.mm) içeren görünür work-cell'i tek async script ile arar;
+     * gerekirse grid'i kaydırarak devam eder. Bulamazsa null.
+     */
+    public WebElement findWorkCellByTime(int hour24, int minute) {
+        String hmColon = String.format("%02d:%02d", hour24, minute);
+        String hmDot   = String.format("%02d.%02d", hour24, minute);
+        long t0 = System.nanoTime();
+        Object r = ((JavascriptExecutor) driver).executeAsyncScript(FIND_BY_TIME_SCRIPT, CONTENT_WRAP_CSS, hmColon, hmDot);
+        log("findWorkCellByTime(" + hmColon + ")" + (r == null ? " bulunamadı" : ""), t0);
+        return r instanceof WebElement el ? el : null;
+    }
+
+    // ---------------------------------------------------------------------
+
+    private Map<?, ?> slot(int hour, boolean firstHalf, String label) {
+        long t0 = System.nanoTime();
+        Object r = new WebDriverWait(driver, timeout).until(d -> ((JavascriptExecutor) d).executeScript(
+                SLOT_SCRIPT, DAY_ROWS_CSS, CONTENT_WRAP_CSS, MIN_ROWS, hour, firstHalf));
+        log(label, t0);
+        Map<?, ?> m = (Map<?, ?>) r;
+        if (m.containsKey("error")) throw new NoSuchElementException(String.valueOf(m.get("error")));
+        return m;
+    }
+
+    private static void log(String what, long startNanos) {
+        System.out.println("[SchedulerGrid] " + what + " → " + (System.nanoTime() - startNanos) / 1_000_000L + " ms");
+    }
+}
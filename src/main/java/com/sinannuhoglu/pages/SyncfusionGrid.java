@@ -0,0 +1,123 @@
+package com.sinannuhoglu.pages;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+
+/**
+ * Syncfusion Grid (ej2) içinde ilk sütun metnine göre satır araması; tek async script ile tarayıcıda yapılır.
+ * <p>
+ * Sıra:
+ * <ol>
+ *   <li>grid örneğinin {@code currentViewData}'sı (sayfadaki tüm kayıtlar, sanallaştırılmış olsa da),</li>
+ *   <li>grid arama destekliyorsa {@code grid.search(...)} (sunucu tarafı/yerel filtre) ve {@code dataBound} beklenir;
+ *       bulunursa arama grid'de etkin kalır, ıskada ham metin katlanmış eşleşmeyi kaçırmış olabileceğinden arama
+ *       temizlenir ({@code search('')}),</li>
+ *   <li>son çare: içerik alanı kaydırılarak görünür satırların taranması.</li>
+ * </ol>
+ * Bulunan satır görünür alana kaydırılır; satır, aynı satırdaki Düzenle butonu ve hangi yoldan bulunduğu döner.
+ * Script tüm yolları denemiş ve bulamamışsa satırı null bir {@link Match} ({@code via=none}) döner; çağıran
+ * aynı DOM taramasını Java'dan tekrarlamaz.
+ * Her çağrı {@code [SyncfusionGrid] ... ms} olarak loglanır.
+ */
+public final class SyncfusionGrid {
+
+    /** Arama sonucu: satır ({@code tr.e-row}; bulunamadıysa null), Düzenle butonu (yoksa null), satır sırası ve yol (data/search/dom/none). */
+    public record Match(WebElement row, WebElement editButton, int index, String via) {}
+
+    /** args: gridCss, hedef (TextNormalizer.fold ile), ham metin, arama bekleme ms */
+    private static final String FIND_SCRIPT =
+            "var host=document.querySelector(arguments[0]),target=arguments[1],raw=arguments[2],searchMs=arguments[3]," +
+            " done=arguments[arguments.length-1];" +
+            "if(!host){done(null);return;}" +
+            "var g=host.ej2_instances&&host.ej2_instances[0],content=host.querySelector('div.e-gridcontent div.e-content');" +
+            "var TR={'ı':'i','İ':'I','ş':'s','Ş':'S','ğ':'g','Ğ':'G','ç':'c','Ç':'C','ö':'o','Ö':'O','ü':'u','Ü':'U'};" +
+            "function fold(s){return String(s==null?'':s).replace(/[ıİşŞğĞçÇöÖüÜ]/g,function(c){return TR[c];})" +
+            " .normalize('NFD').replace(/\\p{M}+/gu,'').toLowerCase().trim().replace(/\\s+/g,' ');}" +
+            "function rows(){return Array.prototype.slice.call(host.querySelectorAll(\"tbody[role='rowgroup'] tr.e-row\"));}" +
+            "function first(tr){return tr.querySelector('td.e-rowcell');}" +
+            "function edit(tr){var b=tr.querySelector(\"button[title='Düzenle'],button.e-editbutton\");if(b)return b;" +
+            " var s=tr.querySelector('button .e-edit');return s?s.closest('button'):null;}" +
+            "function domHit(){var rs=rows();for(var i=0;i<rs.length;i++){var td=first(rs[i]);" +
+            " if(td&&fold(td.innerText||td.textContent).indexOf(target)>=0)return rs[i];}return null;}" +
+            "function found(tr,via){tr.scrollIntoView({block:'center'});done({row:tr,edit:edit(tr),index:rows().indexOf(tr),via:via});}" +
+            "function field(){if(!g)return null;var cs=g.getColumns?g.getColumns():(g.columns||[]);" +
+            " for(var i=0;i<cs.length;i++){if(cs[i].field&&cs[i].visible!==false)return cs[i].field;}return null;}" +
+            "function dataIndex(){var f=field(),d=g&&g.currentViewData;if(!f||!d)return -1;" +
+            " for(var i=0;i<d.length;i++){if(fold(d[i][f]).indexOf(target)>=0)return i;}return -1;}" +
+            "function frame(fn){requestAnimationFrame(function(){setTimeout(fn,0);});}" +
+            // 3) DOM: içerik alanını kaydırarak tara
+            "function domScroll(){if(!content){var h=domHit();h?found(h,'dom'):done(null);return;}" +
+            " content.scrollTop=0;var last=-1,guard=0;" +
+            " (function step(){var h=domHit();if(h){found(h,'dom');return;}" +
+            "  var max=content.scrollHeight-content.clientHeight;" +
+            "  if(content.scrollTop>=max||content.scrollTop===last||++guard>200){done(null);return;}" +
+            "  last=content.scrollTop;content.scrollTop=Math.min(content.scrollTop+Math.max(100,content.clientHeight*0.8),max);" +
+            "  frame(step);})();}" +
+            // 1) veri kaynağı: kayıt sırasına göre satırı getir (sanal kaydırmada tahmini ofsete git)
+            "function fromData(via,orElse){var i=dataIndex();if(i<0){orElse();return;}" +
+            " var tr=g.getRowByIndex?g.getRowByIndex(i):null;" +
+            " if(tr&&tr.classList&&tr.classList.contains('e-row')&&first(tr)&&fold(first(tr).innerText).indexOf(target)>=0){found(tr,via);return;}" +
+            " var h=domHit();if(h){found(h,via);return;}" +
+            " if(content){var rh=(g.getRowHeight&&g.getRowHeight())||36;content.scrollTop=Math.max(i*rh-content.clientHeight/2,0);" +
+            "  frame(function(){var h2=domHit();h2?found(h2,via):domScroll();});return;}" +
+            " domScroll();}" +
+            // grid aramasını bir kez çalıştırıp dataBound'u (ya da süre dolmasını) bekler
+            "function search(text,then){var fin=false;function ok(){if(fin)return;fin=true;" +
+            "  try{g.removeEventListener('dataBound',ok);}catch(e){}frame(then);}" +
+            " try{g.addEventListener('dataBound',ok);g.search(text);}catch(e){fin=true;then();return;}" +
+            " setTimeout(ok,searchMs);}" +
+            // 2) grid araması (searchSettings/toolbar Search); ıskada arama temizlenir (grid boş kalmasın), sonra DOM
+            "function viaSearch(){if(!g||typeof g.search!=='function'||!raw){domScroll();return;}" +
+            " var fin=false;function after(){if(fin)return;fin=true;try{g.removeEventListener('dataBound',after);}catch(e){}" +
+            "  frame(function(){fromData('search',function(){search('',domScroll);});});}" +
+            " try{g.addEventListener('dataBound',after);g.search(raw);}catch(e){fin=true;domScroll();return;}" +
+            " setTimeout(after,searchMs);}" +
+            "if(g){fromData('data',viaSearch);}else{domScroll();}";
+
+    private static final long SEARCH_WAIT_MS = 5_000L;
+
+    private final WebDriver driver;
+    private final String gridCss;
+
+    public SyncfusionGrid(WebDriver driver, String gridCss) {
+        this.driver = driver;
+        this.gridCss = gridCss;
+    }
+
+    /**
+     * İlk sütun metni (katlanmış) {@code foldedTarget}'ı içeren satırı bulur.
+     * @param foldedTarget {@link com.sinannuhoglu.util.TextNormalizer#fold} uygulanmış aranan metin
+     * @param raw          grid araması için ham metin
+     * @return eşleşme; tarama tamamlanıp bulunamadıysa satırı null eşleşme, script çalıştırılamazsa null
+     *         (çağıran yalnızca bu durumda eski taramaya döner)
+     */
+    public Match findRowByFirstCell(String foldedTarget, String raw) {
+        long t0 = System.nanoTime();
+        Object r;
+        try {
+            r = ((JavascriptExecutor) driver).executeAsyncScript(FIND_SCRIPT, gridCss, foldedTarget, raw, SEARCH_WAIT_MS);
+        } catch (ScriptTimeoutException | JavascriptException e) {
+            log("findRowByFirstCell(" + raw + ") script hatası: " + e.getMessage(), t0);
+            return null;
+        }
+        if (!(r instanceof Map<?, ?> m) || !(m.get("row") instanceof WebElement row)) {
+            log("findRowByFirstCell(" + raw + ") bulunamadı", t0);
+            return new Match(null, null, -1, "none");
+        }
+        Match match = new Match(row,
+                m.get("edit") instanceof WebElement b ? b : null,
+                m.get("index") instanceof Number n ? n.intValue() : -1,
+                String.valueOf(m.get("via")));
+        log("findRowByFirstCell(" + raw + ") via " + match.via(), t0);
+        return match;
+    }
+
+    private static void log(String what, long startNanos) {
+        System.out.println("[SyncfusionGrid] " + what + " → " + (System.nanoTime() - startNanos) / 1_000_000L + " ms");
+    }
+}
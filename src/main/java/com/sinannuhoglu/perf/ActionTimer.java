@@ -0,0 +1,93 @@
+package com.sinannuhoglu.perf;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * ActionTimer
+ * <p>
+ * Page object'lerin ölçtüğü kullanıcı eylemi süreleri (senaryo thread'i başına). Performans bütçesi
+ * adımları ({@code PerformanceBudgetSteps}) son ölçümü buradan okur.
+ * <p>
+ * İki kullanım:
+ * <ul>
+ *   <li>{@link #time(String, Supplier)} / {@link #time(String, Runnable)}: bloğun süresi,</li>
+ *   <li>{@link #start(String)} … {@link #stop(String)}: farklı metotlara yayılan eylem (ör. modül tıklaması →
+ *       sayfanın yüklendi doğrulaması). Açık eylem yoksa {@link #stop(String)} hiçbir şey yapmaz; böylece
+ *       tekrarlanan doğrulamalar önceki ölçümü ezmez.</li>
+ * </ul>
+ * Hata fırlatan eylem ölçülmez (başarısız eylemin süresi bütçe için anlamsız).
+ */
+public final class ActionTimer {
+
+    public static final String APPOINTMENTS_LOAD = "appointments.load";
+    public static final String WORKPLAN_SAVE = "workplan.save";
+    public static final String PATIENT_SEARCH = "patient.search";
+
+    private static final class State {
+        final Map<String, Long> started = new HashMap<>();
+        final Map<String, Long> measured = new LinkedHashMap<>();
+    }
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private ActionTimer() {}
+
+    /** Eylemi başlatır (açık eylem varsa yeniden başlatır). */
+    public static void start(String action) {
+        STATE.get().started.put(action, System.nanoTime());
+    }
+
+    /**
+     * Açık eylemi kapatır ve süresini kaydeder; açık eylem yoksa son ölçüme dokunmaz.
+     * @return süre (ms); eylem başlatılmamışsa -1
+     */
+    public static long stop(String action) {
+        State s = STATE.get();
+        Long t0 = s.started.remove(action);
+        if (t0 == null) return -1;
+        long ms = (System.nanoTime() - t0) / 1_000_000L;
+        s.measured.put(action, ms);
+        System.out.println("[ActionTimer] " + action + " → " + ms + " ms");
+        return ms;
+    }
+
+    /** Bloğu çalıştırır ve süresini eylem adıyla kaydeder. */
+    public static <T> T time(String action, Supplier<T> body) {
+        start(action);
+        try {
+            T r = body.get();
+            stop(action);
+            return r;
+        } finally {
+            STATE.get().started.remove(action);
+        }
+    }
+
+    /** {@link #time(String, Supplier)}; dönüşsüz blok için. */
+    public static void time(String action, Runnable body) {
+        time(action, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /** Son ölçüm (ms); bu senaryoda ölçülmediyse null. */
+    public static Long last(String action) {
+        return STATE.get().measured.get(action);
+    }
+
+    /** Bu senaryonun ölçümleri (eylem → ms). */
+    public static Map<String, Long> snapshot() {
+        return new LinkedHashMap<>(STATE.get().measured);
+    }
+
+    /** Senaryo başında ölçümleri ve açık eylemleri siler. */
+    public static void reset() {
+        State s = STATE.get();
+        s.started.clear();
+        s.measured.clear();
+    }
+}
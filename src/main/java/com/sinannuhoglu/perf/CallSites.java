@@ -0,0 +1,54 @@
+package com.sinannuhoglu.perf;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * WebDriver komutunu tetikleyen çağrı yığınından page-object metodu ve bekleme çerçevesini çıkarır.
+ * <p>
+ * Anahtar = sınıf#metot@alttan derinlik; çerçeve yığında kaldığı sürece aynı çağrıyı temsil eder.
+ */
+final class CallSites {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final String PAGES_PKG = "com.sinannuhoglu.pages.";
+
+    /** Tek komutun çağrı bağlamı. */
+    record Site(String waitKey, String pageKey, String pageMethod, String innermostPageMethod) {}
+
+    private CallSites() {}
+
+    static Site capture() {
+        List<StackWalker.StackFrame> frames = WALKER.walk(s -> s.collect(Collectors.toList()));
+        int n = frames.size();
+        String waitKey = null, pageKey = null, pageMethod = null, innermost = null;
+        // alttan (en dış çağrı) yukarı doğru: ilk eşleşen en dıştaki, son eşleşen en içteki çerçevedir
+        for (int i = n - 1; i >= 0; i--) {
+            StackWalker.StackFrame f = frames.get(i);
+            String cls = f.getClassName();
+            if (pageKey == null && cls.startsWith(PAGES_PKG)) {
+                pageKey = cls + "#" + f.getMethodName() + "@" + (n - i);
+                pageMethod = simpleName(cls) + "." + f.getMethodName();
+            }
+            if (waitKey == null && isWait(cls, f.getMethodName())) {
+                waitKey = cls + "#" + f.getMethodName() + "@" + (n - i);
+            }
+            if (cls.startsWith(PAGES_PKG) && !f.getMethodName().startsWith("lambda$")) {
+                innermost = simpleName(cls) + "." + f.getMethodName();
+            }
+        }
+        return new Site(waitKey, pageKey, pageMethod, innermost);
+    }
+
+    private static boolean isWait(String cls, String method) {
+        return ("org.openqa.selenium.support.ui.FluentWait".equals(cls) && "until".equals(method))
+                || ("com.sinannuhoglu.core.DomWaiter".equals(cls) && "run".equals(method))
+                || ("com.sinannuhoglu.core.UiSettle".equals(cls) && "await".equals(method));
+    }
+
+    static String simpleName(String cls) {
+        String s = cls.substring(cls.lastIndexOf('.') + 1);
+        int inner = s.indexOf('$');
+        return inner > 0 ? s.substring(0, inner) : s;
+    }
+}
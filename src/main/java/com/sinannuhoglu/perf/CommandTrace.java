@@ -0,0 +1,185 @@
+package com.sinannuhoglu.perf;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * CommandTrace
+ * <p>
+ * Her WebDriver komutunu sayar ve süresini ölçer; süreç geneli histogramlar tutar:
+ * <ul>
+ *   <li>komut tipine göre (ör. {@code WebElement.getAttribute}, {@code JavascriptExecutor.executeScript}),</li>
+ *   <li>komutu doğrudan çağıran (en içteki) page-object metoduna göre.</li>
+ * </ul>
+ * Tek bir adım {@code selenium.trace.hotspotCommands} (default: 200) komuttan fazlasını gönderirse
+ * adım "hotspot" olarak işaretlenir ve en çok komut üreten metotlarla birlikte loglanır. Eşik dinleyici
+ * başınadır: adım, komutları gönderen sürücünün dinleyicisindeki eşikle değerlendirilir.
+ * <p>
+ * Ayar: {@code selenium.trace.enabled} (ya da {@code -Dtrace=true}); DriverFactory dinleyiciyi ekler.
+ * Adım sınırları Cucumber eklentisinden {@link #stepStarted()} / {@link #stepFinished(String, String)} ile bildirilir.
+ */
+public class CommandTrace implements WebDriverListener {
+
+    private static final Map<String, LatencyHistogram> BY_COMMAND = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> BY_PAGE_METHOD = new ConcurrentHashMap<>();
+    private static final Queue<Map<String, Object>> HOTSPOTS = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<StepCounter> STEP = ThreadLocal.withInitial(StepCounter::new);
+    private static final Set<Integer> THRESHOLDS = new ConcurrentSkipListSet<>();
+
+    private final int hotspotThreshold;
+    private final ThreadLocal<long[]> started = ThreadLocal.withInitial(() -> new long[1]);
+
+    public CommandTrace(int hotspotCommands) {
+        this.hotspotThreshold = Math.max(1, hotspotCommands);
+        THRESHOLDS.add(hotspotThreshold);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (ProfilingListener.ignored(method)) return;
+        started.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(target, method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(target, method);
+    }
+
+    private void record(Object target, Method method) {
+        if (ProfilingListener.ignored(method)) return;
+        long dt = System.nanoTime() - started.get()[0];
+        String command = commandName(target, method);
+        BY_COMMAND.computeIfAbsent(command, k -> new LatencyHistogram()).record(dt);
+
+        String caller = CallSites.capture().innermostPageMethod();
+        String pageMethod = caller == null ? "(page dışı)" : caller;
+        BY_PAGE_METHOD.computeIfAbsent(pageMethod, k -> new LatencyHistogram()).record(dt);
+
+        STEP.get().add(pageMethod, hotspotThreshold);
+    }
+
+    // ---------------------------------------------------------------------
+    // Adım sınırları ve rapor
+    // ---------------------------------------------------------------------
+
+    /** Aktif thread için adım sayacını sıfırlar. */
+    public static void stepStarted() {
+        STEP.get().reset();
+    }
+
+    /**
+     * Adımı kapatır; eşik aşıldıysa hotspot kaydı üretir.
+     * @return hotspot kaydı ya da null
+     */
+    public static Map<String, Object> stepFinished(String scenario, String step) {
+        StepCounter c = STEP.get();
+        Map<String, Object> hotspot = null;
+        if (c.commands > c.threshold) {
+            hotspot = new LinkedHashMap<>();
+            hotspot.put("scenario", scenario);
+            hotspot.put("step", step);
+            hotspot.put("commands", c.commands);
+            hotspot.put("threshold", c.threshold);
+            hotspot.put("topPageMethods", top(c.byMethod, 5));
+            HOTSPOTS.add(hotspot);
+            System.out.println("[CommandTrace] HOTSPOT '" + step + "' → " + c.commands
+                    + " komut (eşik " + c.threshold + "): " + hotspot.get("topPageMethods"));
+        }
+        c.reset();
+        return hotspot;
+    }
+
+    /** Kayıt var mı? */
+    public static boolean hasData() {
+        return !BY_COMMAND.isEmpty();
+    }
+
+    /** Histogramlar (toplam süreye göre azalan) ve hotspot listesi. */
+    public static Map<String, Object> report() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("hotspotThresholds", new ArrayList<>(THRESHOLDS));
+        m.put("byCommand", sorted(BY_COMMAND));
+        m.put("byPageMethod", sorted(BY_PAGE_METHOD));
+        m.put("hotspots", new ArrayList<>(HOTSPOTS));
+        return m;
+    }
+
+    /** Konsol için kısa özet (en pahalı n komut tipi ve metot). */
+    public static String summary(int n) {
+        StringBuilder sb = new StringBuilder("[CommandTrace] Özet\n");
+        appendTop(sb, "komut", BY_COMMAND, n);
+        appendTop(sb, "page metodu", BY_PAGE_METHOD, n);
+        sb.append("  hotspot: ").append(HOTSPOTS.size());
+        return sb.toString();
+    }
+
+    static String commandName(Object target, Method method) {
+        String owner = target instanceof WebElement ? "WebElement" : method.getDeclaringClass().getSimpleName();
+        if ("SearchContext".equals(owner)) owner = "WebDriver";
+        return owner + "." + method.getName();
+    }
+
+    private static Map<String, Object> sorted(Map<String, LatencyHistogram> src) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        src.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> e) -> e.getValue().totalMillis()).reversed())
+                .forEach(e -> out.put(e.getKey(), e.getValue().toMap()));
+        return out;
+    }
+
+    private static void appendTop(StringBuilder sb, String title, Map<String, LatencyHistogram> src, int n) {
+        sb.append("  ").append(title).append(":\n");
+        src.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> e) -> e.getValue().totalMillis()).reversed())
+                .limit(n)
+                .forEach(e -> sb.append("    ").append(e.getKey())
+                        .append(" count=").append(e.getValue().count())
+                        .append(" total=").append(e.getValue().totalMillis()).append("ms")
+                        .append(" p95=").append(e.getValue().percentileMillis(0.95)).append("ms\n"));
+    }
+
+    private static List<String> top(Map<String, Integer> counts, int n) {
+        List<String> out = new ArrayList<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(n)
+                .forEach(e -> out.add(e.getKey() + "=" + e.getValue()));
+        return out;
+    }
+
+    private static final class StepCounter {
+        int commands;
+        int threshold;
+        final Map<String, Integer> byMethod = new HashMap<>();
+
+        void add(String method, int threshold) {
+            this.threshold = threshold;
+            commands++;
+            byMethod.merge(method, 1, Integer::sum);
+        }
+
+        void reset() {
+            commands = 0;
+            byMethod.clear();
+        }
+    }
+}
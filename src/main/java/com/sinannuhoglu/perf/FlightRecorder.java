@@ -0,0 +1,256 @@
+package com.sinannuhoglu.perf;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FlightRecorder
+ * <p>
+ * Oturum başına sınırlı bellekli "kara kutu": son N WebDriver komutu (süre, kısa ayrıntı, hata), URL
+ * değişimleri ve hafif DOM özetleri (outline) halka tamponlarda tutulur. Başarılı senaryoda atılır,
+ * başarısız senaryoda Hooks tarafından JSON olarak Allure sonucuna eklenir.
+ * <p>
+ * Bellek üst sınırı sabittir: komut halkası önceden ayrılmış {@code capacity} yuvadır (yuvalar yeniden
+ * yazılır), ayrıntılar {@value #DETAIL_MAX}, özetler {@value #OUTLINE_MAX} karakterle kesilir; son
+ * {@value #URL_SLOTS} URL ve {@value #OUTLINE_SLOTS} özet saklanır (~capacity × 0.3 KB + 20 KB).
+ * Yazılan metin değerleri (sendKeys) kaydedilmez, yalnızca uzunlukları tutulur.
+ * <p>
+ * URL'ler ek komut gönderilmeden toplanır: navigasyon argümanları ve kodun zaten çağırdığı
+ * {@code getCurrentUrl} sonuçları. Özet, navigasyondan sonra (ve isteğe bağlı her click'ten sonra) ham
+ * sürücüyle tek script'le alınır.
+ * <p>
+ * Ayarlar (ConfigReader; DriverFactory dinleyiciyi ekler):
+ * <pre>
+ *   selenium.flightRecorder.enabled        (default: true)
+ *   selenium.flightRecorder.capacity       (default: 200)
+ *   selenium.flightRecorder.outlineOnClick (default: false)
+ * </pre>
+ */
+public class FlightRecorder implements WebDriverListener {
+
+    static final int DETAIL_MAX = 160;
+    static final int OUTLINE_MAX = 2000;
+    static final int URL_SLOTS = 20;
+    static final int OUTLINE_SLOTS = 5;
+
+    private static final Set<String> NAVIGATIONS = Set.of(
+            "WebDriver.get", "Navigation.to", "Navigation.back", "Navigation.forward", "Navigation.refresh");
+
+    private static final String OUTLINE =
+            "var out=[],max=arguments[0];function vis(e){var r=e.getBoundingClientRect();return r.width>0&&r.height>0;}" +
+            "function txt(e){return (e.innerText||e.textContent||'').replace(/\\s+/g,' ').trim().slice(0,80);}" +
+            "out.push('url: '+location.href);out.push('title: '+document.title+' ('+document.readyState+')');" +
+            "var q=function(css,label,n){var els=document.querySelectorAll(css),k=0;" +
+            " for(var i=0;i<els.length&&k<n;i++){if(vis(els[i])){out.push(label+': '+txt(els[i]));k++;}}};" +
+            "q('.e-dialog .e-dlg-header,[role=dialog] h1,[role=dialog] h2','dialog',3);" +
+            "q('h1,h2,h3','heading',6);" +
+            "q('.e-toast-content,.toast,[role=alert],.e-error,.validation-summary-errors','alert',5);" +
+            "q('.e-spinner-pane:not(.e-spin-hide)','spinner',2);" +
+            "var a=document.activeElement;if(a&&a!==document.body)out.push('active: '+a.tagName.toLowerCase()" +
+            " +(a.id?'#'+a.id:'')+(a.name?'[name='+a.name+']':''));" +
+            "out.push('visible: inputs='+[].filter.call(document.querySelectorAll('input,select,textarea'),vis).length" +
+            " +' buttons='+[].filter.call(document.querySelectorAll('button'),vis).length);" +
+            "return out.join('\\n').slice(0,max);";
+
+    private static final Map<WebDriver, FlightRecorder> RECORDERS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<Method, String> NAMES = new ConcurrentHashMap<>();
+    private static final Map<Method, String> ELEMENT_NAMES = new ConcurrentHashMap<>();
+
+    /** Önceden ayrılan, üzerine yazılan komut yuvası. */
+    private static final class Slot {
+        long startNanos;
+        long durationNanos;
+        String command;
+        String detail;
+        String error;
+    }
+
+    private record Stamp(long atNanos, String value) {}
+
+    private final WebDriver driver;
+    private final boolean outlineOnClick;
+    private final Slot[] ring;
+    private final Stamp[] urls = new Stamp[URL_SLOTS];
+    private final Stamp[] outlines = new Stamp[OUTLINE_SLOTS];
+    private final ThreadLocal<long[]> started = ThreadLocal.withInitial(() -> new long[1]);
+
+    private long total;
+    private int urlCount;
+    private int outlineCount;
+    private long originNanos = System.nanoTime();
+
+    /**
+     * @param driver sarmalanmamış sürücü (özet script'i dinleyiciye geri dönmesin diye)
+     */
+    public FlightRecorder(WebDriver driver, int capacity, boolean outlineOnClick) {
+        this.driver = driver;
+        this.outlineOnClick = outlineOnClick;
+        this.ring = new Slot[Math.max(10, capacity)];
+        for (int i = 0; i < ring.length; i++) ring[i] = new Slot();
+    }
+
+    /** Kaydediciyi (sarmalanmış) sürücüyle eşler. */
+    public static void register(WebDriver driver, FlightRecorder recorder) {
+        if (driver != null && recorder != null) RECORDERS.put(driver, recorder);
+    }
+
+    /** Sürücünün kaydedicisi; kapalıysa null. */
+    public static FlightRecorder of(WebDriver driver) {
+        return driver == null ? null : RECORDERS.get(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (ProfilingListener.ignored(method)) return;
+        started.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        if (ProfilingListener.ignored(method)) return;
+        String command = name(target, method);
+        record(command, args, null);
+        if ("WebDriver.getCurrentUrl".equals(command) && result instanceof String url) {
+            url(url);
+        } else if (NAVIGATIONS.contains(command)) {
+            if (args != null && args.length > 0 && args[0] != null) url(String.valueOf(args[0]));
+            outline();
+        } else if (outlineOnClick && "WebElement.click".equals(command)) {
+            outline();
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (ProfilingListener.ignored(method)) return;
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        record(name(target, method), args, cause.getClass().getSimpleName());
+    }
+
+    /** Anlık DOM özetini halkaya ekler (hata anında Hooks çağırır). */
+    public void outline() {
+        try {
+            Object r = ((JavascriptExecutor) driver).executeScript(OUTLINE, OUTLINE_MAX);
+            if (r instanceof String s) addOutline(s);
+        } catch (RuntimeException e) {
+            addOutline("(özet alınamadı: " + e.getClass().getSimpleName() + ")");
+        }
+    }
+
+    /** Tamponları boşaltır (senaryo başı ve sonu). */
+    public synchronized void clear() {
+        total = 0;
+        urlCount = 0;
+        outlineCount = 0;
+        originNanos = System.nanoTime();
+        Arrays.fill(urls, null);
+        Arrays.fill(outlines, null);
+    }
+
+    /** Tamponların JSON'a uygun kopyası (eskiden yeniye; zamanlar senaryo başından ms). */
+    public synchronized Map<String, Object> toMap() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("capacity", ring.length);
+        m.put("recorded", total);
+        m.put("dropped", Math.max(0, total - ring.length));
+
+        List<Map<String, Object>> cmds = new ArrayList<>();
+        int n = (int) Math.min(total, ring.length);
+        for (int i = 0; i < n; i++) {
+            Slot s = ring[(int) ((total - n + i) % ring.length)];
+            Map<String, Object> c = new LinkedHashMap<>();
+            c.put("atMs", ms(s.startNanos - originNanos));
+            c.put("ms", ms(s.durationNanos));
+            c.put("command", s.command);
+            if (s.detail != null) c.put("detail", s.detail);
+            if (s.error != null) c.put("error", s.error);
+            cmds.add(c);
+        }
+        m.put("commands", cmds);
+        m.put("urls", stamps(urls, urlCount));
+        m.put("outlines", stamps(outlines, outlineCount));
+        return m;
+    }
+
+    // ---------------------------------------------------------------------
+
+    private synchronized void record(String command, Object[] args, String error) {
+        long end = System.nanoTime();
+        long start = started.get()[0];
+        Slot s = ring[(int) (total++ % ring.length)];
+        s.startNanos = start;
+        s.durationNanos = end - start;
+        s.command = command;
+        s.detail = detail(command, args);
+        s.error = error;
+    }
+
+    private synchronized void url(String url) {
+        if (urlCount > 0 && url.equals(urls[(urlCount - 1) % URL_SLOTS].value())) return;
+        stamp(urls, urlCount++, url);
+    }
+
+    private synchronized void addOutline(String outline) {
+        stamp(outlines, outlineCount++, outline);
+    }
+
+    private static void stamp(Stamp[] buf, int index, String value) {
+        buf[index % buf.length] = new Stamp(System.nanoTime(), truncate(value, OUTLINE_MAX));
+    }
+
+    private List<Map<String, Object>> stamps(Stamp[] src, int count) {
+        List<Map<String, Object>> out = new ArrayList<>();
+        int n = Math.min(count, src.length);
+        for (int i = 0; i < n; i++) {
+            Stamp s = src[(count - n + i) % src.length];
+            if (s == null) continue;
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("atMs", ms(s.atNanos() - originNanos));
+            m.put("value", s.value());
+            out.add(m);
+        }
+        return out;
+    }
+
+    /** Komuta göre kısa ayrıntı; yazılan metin yerine yalnızca uzunluk. */
+    private static String detail(String command, Object[] args) {
+        if (args == null || args.length == 0 || args[0] == null) return null;
+        Object a = args[0];
+        if (command.endsWith(".sendKeys")) {
+            int len = 0;
+            if (a instanceof CharSequence[] keys) for (CharSequence k : keys) len += k == null ? 0 : k.length();
+            return "(" + len + " karakter)";
+        }
+        if (a instanceof By || a instanceof String) return truncate(a.toString(), DETAIL_MAX);
+        return null;
+    }
+
+    private static String name(Object target, Method method) {
+        // aynı SearchContext metodu hedefe göre WebDriver/WebElement komutudur
+        Map<Method, String> cache = target instanceof WebElement ? ELEMENT_NAMES : NAMES;
+        return cache.computeIfAbsent(method, m -> CommandTrace.commandName(target, m));
+    }
+
+    private static String truncate(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max) + "…";
+    }
+
+    private static long ms(long nanos) {
+        return nanos / 1_000_000L;
+    }
+}
@@ -0,0 +1,59 @@
+package com.sinannuhoglu.perf;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Üstel (2'nin kuvvetleri, ms) kovalı gecikme histogramı.
+ * Yüzdelikler kova üst sınırından verilir; yaklaşık ama sabit bellekli ve thread-safe'tir.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 16; // <1ms, <2ms, <4ms ... <32768ms, üstü
+
+    private final long[] buckets = new long[BUCKETS + 1];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    public synchronized void record(long nanos) {
+        count++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) maxNanos = nanos;
+        long ms = nanos / 1_000_000L;
+        int i = ms <= 0 ? 0 : Math.min(BUCKETS, 64 - Long.numberOfLeadingZeros(ms));
+        buckets[i]++;
+    }
+
+    public synchronized long count() { return count; }
+
+    public synchronized long totalMillis() { return totalNanos / 1_000_000L; }
+
+    /** q (0..1) yüzdeliğinin kova üst sınırı (ms). */
+    public synchronized long percentileMillis(double q) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(q * count), seen = 0;
+        for (int i = 0; i <= BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank) return i == BUCKETS ? maxNanos / 1_000_000L : (1L << i);
+        }
+        return maxNanos / 1_000_000L;
+    }
+
+    public synchronized Map<String, Object> toMap() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("count", count);
+        m.put("totalMs", totalNanos / 1_000_000L);
+        m.put("avgMs", count == 0 ? 0 : Math.round(totalNanos / 1_000_000.0 / count * 100) / 100.0);
+        m.put("p50Ms", percentileMillis(0.50));
+        m.put("p95Ms", percentileMillis(0.95));
+        m.put("maxMs", maxNanos / 1_000_000L);
+        Map<String, Long> b = new LinkedHashMap<>();
+        for (int i = 0; i <= BUCKETS; i++) {
+            if (buckets[i] == 0) continue;
+            b.put(i == BUCKETS ? ">=" + (1L << (BUCKETS - 1)) + "ms" : "<" + (1L << i) + "ms", buckets[i]);
+        }
+        m.put("buckets", b);
+        return m;
+    }
+}
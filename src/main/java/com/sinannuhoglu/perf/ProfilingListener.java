@@ -0,0 +1,46 @@
+package com.sinannuhoglu.perf;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Her WebDriver/WebElement komutunu aktif {@link ScenarioProfile}'a işler: komut sayısı ve süresi,
+ * bekleme içinde geçen süre ve komutu başlatan page-object metodu.
+ * Aktif profil yoksa (ör. havuz ısıtma thread'i) komut yok sayılır.
+ */
+public class ProfilingListener implements WebDriverListener {
+
+    private final ThreadLocal<long[]> started = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (ignored(method)) return;
+        started.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private void finish(Method method) {
+        if (ignored(method)) return;
+        long end = System.nanoTime();
+        ScenarioProfile p = ScenarioProfile.current();
+        if (p == null) return;
+        CallSites.Site site = CallSites.capture();
+        p.recordCommand(started.get()[0], end, site.waitKey(), site.pageKey(), site.pageMethod());
+    }
+
+    /** Object metotları (hashCode/equals/toString) komut sayılmaz. */
+    static boolean ignored(Method method) {
+        return method.getDeclaringClass() == Object.class;
+    }
+}
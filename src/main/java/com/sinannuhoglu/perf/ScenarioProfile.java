@@ -0,0 +1,193 @@
+package com.sinannuhoglu.perf;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tek senaryonun zaman profili: Gherkin adımlarının duvar süresi, WebDriver komut sayısı/süresi,
+ * WebDriverWait (ve DomWaiter/UiSettle) içinde geçen süre ve page-object metot süreleri.
+ * <p>
+ * Profil iş parçacığına bağlıdır: Cucumber eklentisi senaryo başında {@link #begin} ile açar,
+ * {@link ProfilingListener} aynı thread üzerinden komutları işler, senaryo sonunda {@link #end(String, long)} ile kapanır.
+ * Span hesabı yaklaşıktır: aynı çağrı çerçevesinden art arda gelen komutlar tek çağrı sayılır.
+ */
+public final class ScenarioProfile {
+
+    private static final ThreadLocal<ScenarioProfile> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final String location;
+    private final long startedAt = System.currentTimeMillis();
+    private String status = "UNKNOWN";
+    private long durationNanos;
+
+    private final List<Map<String, Object>> steps = new ArrayList<>();
+    private final Map<String, long[]> pageMethods = new LinkedHashMap<>();
+
+    private long commands;
+    private long commandNanos;
+    private long waitNanos;
+
+    // aktif adım
+    private String stepText;
+    private long stepCommands;
+    private long stepCommandNanos;
+    private long stepWaitNanos;
+
+    // açık span'ler (aynı çağrı zincirinden gelen ardışık komutlar tek span sayılır)
+    private final Span waitSpan = new Span(null);
+    private final Span pageSpan = new Span(pageMethods);
+
+    private ScenarioProfile(String name, String location) {
+        this.name = name;
+        this.location = location;
+    }
+
+    /** Aktif thread için yeni profil başlatır. */
+    public static ScenarioProfile begin(String name, String location) {
+        ScenarioProfile p = new ScenarioProfile(name, location);
+        CURRENT.set(p);
+        return p;
+    }
+
+    /** Aktif thread'in profili (yoksa null). */
+    public static ScenarioProfile current() {
+        return CURRENT.get();
+    }
+
+    /** Aktif profili kapatır ve thread'den ayırır. */
+    public static ScenarioProfile end(String status, long durationNanos) {
+        ScenarioProfile p = CURRENT.get();
+        CURRENT.remove();
+        if (p != null) {
+            synchronized (p) {
+                p.closeSpans();
+                p.status = status;
+                p.durationNanos = durationNanos;
+            }
+        }
+        return p;
+    }
+
+    public synchronized void stepStarted(String text) {
+        closeSpans();
+        stepText = text;
+        stepCommands = 0;
+        stepCommandNanos = 0;
+        stepWaitNanos = 0;
+    }
+
+    public synchronized Map<String, Object> stepFinished(String status, long durationNanos) {
+        closeSpans();
+        Map<String, Object> s = new LinkedHashMap<>();
+        s.put("step", stepText);
+        s.put("status", status);
+        s.put("durationMs", durationNanos / 1_000_000L);
+        s.put("commands", stepCommands);
+        s.put("commandMs", stepCommandNanos / 1_000_000L);
+        s.put("waitMs", stepWaitNanos / 1_000_000L);
+        steps.add(s);
+        stepText = null;
+        return s;
+    }
+
+    /**
+     * Tek WebDriver komutunu işler.
+     * @param waitKey     komut bir bekleme (FluentWait.until, DomWaiter, UiSettle) içinden geldiyse o çağrının anahtarı
+     * @param pageKey     çağrıyı başlatan en dıştaki page-object metodunun anahtarı (yoksa null)
+     * @param pageMethod  page-object metodu etiketi (Sınıf.metot)
+     */
+    synchronized void recordCommand(long startNanos, long endNanos, String waitKey, String pageKey, String pageMethod) {
+        long dt = endNanos - startNanos;
+        commands++;
+        commandNanos += dt;
+        if (stepText != null) {
+            stepCommands++;
+            stepCommandNanos += dt;
+        }
+        long waited = waitSpan.advance(waitKey, null, startNanos, endNanos);
+        if (waited > 0) addWait(waited);
+        pageSpan.advance(pageKey, pageMethod, startNanos, endNanos);
+    }
+
+    public synchronized long commands() { return commands; }
+
+    public String name() { return name; }
+
+    /** JSON'a yazılacak yapı. */
+    public synchronized Map<String, Object> toMap() {
+        closeSpans();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("scenario", name);
+        m.put("location", location);
+        m.put("status", status);
+        m.put("startedAt", startedAt);
+        m.put("durationMs", durationNanos / 1_000_000L);
+        m.put("commands", commands);
+        m.put("commandMs", commandNanos / 1_000_000L);
+        m.put("waitMs", waitNanos / 1_000_000L);
+        m.put("steps", new ArrayList<>(steps));
+        List<Map<String, Object>> methods = new ArrayList<>();
+        pageMethods.forEach((k, v) -> {
+            Map<String, Object> pm = new LinkedHashMap<>();
+            pm.put("method", k);
+            pm.put("calls", v[0]);
+            pm.put("totalMs", v[1] / 1_000_000L);
+            methods.add(pm);
+        });
+        m.put("pageMethods", methods);
+        return m;
+    }
+
+    private void addWait(long nanos) {
+        waitNanos += nanos;
+        if (stepText != null) stepWaitNanos += nanos;
+    }
+
+    private void closeSpans() {
+        long waited = waitSpan.close();
+        if (waited > 0) addWait(waited);
+        pageSpan.close();
+    }
+
+    /** Aynı çağrı çerçevesinden (anahtar) gelen ardışık komutların ilk başlangıcı → son bitişi. */
+    private static final class Span {
+        final Map<String, long[]> sink;
+        String key;
+        String label;
+        long start;
+        long end;
+
+        Span(Map<String, long[]> sink) { this.sink = sink; }
+
+        long advance(String newKey, String newLabel, long s, long e) {
+            if (newKey != null && newKey.equals(key)) {
+                end = e;
+                return 0;
+            }
+            long closed = close();
+            if (newKey != null) {
+                key = newKey;
+                label = newLabel;
+                start = s;
+                end = e;
+            }
+            return closed;
+        }
+
+        long close() {
+            if (key == null) return 0;
+            long d = end - start;
+            if (sink != null && label != null) {
+                long[] acc = sink.computeIfAbsent(label, k -> new long[2]);
+                acc[0]++;
+                acc[1] += d;
+            }
+            key = null;
+            label = null;
+            return d;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.sinannuhoglu.perf;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * WebVitals
+ * <p>
+ * Sayfa geçişlerinde Navigation Timing, FCP, LCP, CLS, TBT ve Resource Timing toplar; her ölçüm tek
+ * {@code executeScript} çağrısıdır ({@code PerformanceObserver} buffered kayıtları {@code takeRecords} ile
+ * eşzamanlı okunur). Ölçümler senaryo başına tutulur ve Hooks tarafından Allure'a JSON olarak eklenir.
+ * <p>
+ * İki tür örnek:
+ * <ul>
+ *   <li>{@code navigation}: yeni doküman; navigasyon zamanları + FCP/LCP + doküman başından CLS/TBT/kaynaklar,</li>
+ *   <li>{@code route}: aynı dokümanda SPA rota değişimi; önceki örnekten bu yana CLS/TBT/kaynaklar ve
+ *       kaynakların kapladığı süre ({@code spanMs}).</li>
+ * </ul>
+ * Örnek noktaları: page object'lerin açılış metotları ({@link #sample(WebDriver, String)}) ve rota değişimi.
+ * Rota değişimi kodun zaten çağırdığı {@code getCurrentUrl} sonuçlarından ek komutsuz fark edilir; örnek,
+ * yeni rotadaki ilk kullanıcı eyleminden (click/sendKeys) hemen önce ya da senaryo sonunda alınır; test o
+ * ana kadar sayfanın hazır olmasını zaten beklemiştir.
+ * <p>
+ * TBT, FCP–TTI aralığı yerine örnek penceresindeki uzun görevlerin 50 ms üstü toplamıdır (laboratuvar yaklaşımı).
+ * <p>
+ * Ayar: {@code selenium.vitals.enabled} (default: false, ya da {@code -Dvitals=true}); DriverFactory dinleyiciyi ekler.
+ */
+public class WebVitals implements WebDriverListener {
+
+    private static final int MAX_SAMPLES = 50;
+
+    private static final String SCRIPT =
+            "var w=window,nav=w.__vitalsMark===undefined,mark=nav?0:w.__vitalsMark,r={kind:nav?'navigation':'route',url:location.href};" +
+            "function take(type,fn){try{var o=new PerformanceObserver(function(){});o.observe({type:type,buffered:true});" +
+            " o.takeRecords().forEach(fn);o.disconnect();return true;}catch(e){return false;}}" +
+            "var lcp=null,cls=0,tbt=0,lt=0;" +
+            "take('largest-contentful-paint',function(e){if(e.startTime>=mark)lcp=e.startTime;});" +
+            "take('layout-shift',function(e){if(e.startTime>=mark&&!e.hadRecentInput)cls+=e.value;});" +
+            "take('longtask',function(e){if(e.startTime>=mark){lt++;tbt+=Math.max(0,e.duration-50);}});" +
+            "if(nav){var n=performance.getEntriesByType('navigation')[0];if(n){r.ttfbMs=Math.round(n.responseStart);" +
+            " r.domInteractiveMs=Math.round(n.domInteractive);r.domContentLoadedMs=Math.round(n.domContentLoadedEventEnd);" +
+            " r.loadMs=Math.round(n.loadEventEnd);r.documentBytes=n.transferSize;}" +
+            " var p=performance.getEntriesByName('first-contentful-paint')[0];if(p)r.fcpMs=Math.round(p.startTime);" +
+            " r.lcpMs=lcp===null?null:Math.round(lcp);}" +
+            "r.cls=Math.round(cls*1000)/1000;r.tbtMs=Math.round(tbt);r.longTasks=lt;" +
+            "var res=performance.getEntriesByType('resource').filter(function(e){return e.startTime>=mark;});" +
+            "var bytes=0,first=Infinity,last=0,types={};" +
+            "res.forEach(function(e){bytes+=e.transferSize||0;first=Math.min(first,e.startTime);last=Math.max(last,e.responseEnd);" +
+            " types[e.initiatorType]=(types[e.initiatorType]||0)+1;});" +
+            "r.resources={count:res.length,transferBytes:bytes,byType:types,spanMs:res.length?Math.round(last-first):0," +
+            " slowest:res.slice().sort(function(a,b){return b.duration-a.duration;}).slice(0,5)" +
+            "  .map(function(e){return {name:e.name.slice(0,120),ms:Math.round(e.duration)};})};" +
+            "w.__vitalsMark=performance.now();return r;";
+
+    private static final Map<WebDriver, WebVitals> BY_DRIVER = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+    private final List<Map<String, Object>> samples = new ArrayList<>();
+    private String lastRoute;
+    private String pendingRoute;
+
+    /**
+     * @param driver sarmalanmamış sürücü (ölçüm script'i dinleyiciye geri dönmesin diye)
+     */
+    public WebVitals(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /** Ölçeri (sarmalanmış) sürücüyle eşler. */
+    public static void register(WebDriver driver, WebVitals vitals) {
+        if (driver != null && vitals != null) BY_DRIVER.put(driver, vitals);
+    }
+
+    /** Sürücünün ölçeri; kapalıysa null. */
+    public static WebVitals of(WebDriver driver) {
+        return driver == null ? null : BY_DRIVER.get(driver);
+    }
+
+    /** Ölçüm açıksa etiketli örnek alır (page object açılış metotlarının sonunda). */
+    public static void sample(WebDriver driver, String label) {
+        WebVitals v = of(driver);
+        if (v != null) v.take(label);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (target instanceof WebElement && ("click".equals(method.getName()) || "sendKeys".equals(method.getName()))) {
+            flushPending();
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        if ("getCurrentUrl".equals(method.getName()) && result instanceof String url) routeSeen(url);
+    }
+
+    /** Bekleyen rota örneğini alır (senaryo sonu). */
+    public void flushPending() {
+        String route;
+        synchronized (this) {
+            route = pendingRoute;
+            pendingRoute = null;
+        }
+        if (route != null) take("route " + route);
+    }
+
+    /** Senaryonun örneklerini döndürüp boşaltır. */
+    public synchronized List<Map<String, Object>> drain() {
+        List<Map<String, Object>> out = new ArrayList<>(samples);
+        samples.clear();
+        pendingRoute = null;
+        return out;
+    }
+
+    // ---------------------------------------------------------------------
+
+    private void take(String label) {
+        long t0 = System.nanoTime();
+        Object r;
+        try {
+            r = ((JavascriptExecutor) driver).executeScript(SCRIPT);
+        } catch (RuntimeException e) {
+            System.out.println("[WebVitals] " + label + " ölçülemedi: " + e.getClass().getSimpleName());
+            return;
+        }
+        if (!(r instanceof Map<?, ?> m)) return;
+        Map<String, Object> sample = new LinkedHashMap<>();
+        sample.put("label", label);
+        m.forEach((k, v) -> sample.put(String.valueOf(k), v));
+        sample.put("collectMs", (System.nanoTime() - t0) / 1_000_000L);
+        synchronized (this) {
+            if (samples.size() < MAX_SAMPLES) samples.add(sample);
+            lastRoute = route(String.valueOf(m.get("url")));
+            pendingRoute = null;
+        }
+    }
+
+    private synchronized void routeSeen(String url) {
+        String route = route(url);
+        if (route == null || route.equals(lastRoute)) return;
+        if (lastRoute != null) pendingRoute = route;
+        lastRoute = route;
+    }
+
+    /** Yol + hash (hash tabanlı yönlendirme için); sorgu dizesi rota sayılmaz. */
+    private static String route(String url) {
+        try {
+            URI u = URI.create(url);
+            if (u.getPath() == null) return null;
+            return u.getPath() + (u.getFragment() == null ? "" : "#" + u.getFragment());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
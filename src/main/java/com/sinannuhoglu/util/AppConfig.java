@@ -2,6 +2,11 @@ package com.sinannuhoglu.util;
 
 import com.sinannuhoglu.core.ConfigReader;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Properties;
+
 /** Basit uygulama konfig yardımcıları. */
 public final class AppConfig {
 
@@ -29,6 +34,26 @@ public final class AppConfig {
         return url.trim();
     }
 
+    /**
+     * Allure'un sonuç dizini, Allure'un kendi çözümleme sırasıyla:
+     * 1) -Dallure.results.directory
+     * 2) classpath allure.properties → allure.results.directory
+     * 3) allure-results (çalışma dizinine göre)
+     */
+    public static Path allureResultsDir() {
+        String fromSys = System.getProperty("allure.results.directory");
+        if (nonBlank(fromSys)) return Path.of(fromSys.trim());
+        try (InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream("allure.properties")) {
+            if (is != null) {
+                Properties p = new Properties();
+                p.load(is);
+                String v = p.getProperty("allure.results.directory");
+                if (nonBlank(v)) return Path.of(v.trim());
+            }
+        } catch (IOException ignored) {}
+        return Path.of("allure-results");
+    }
+
     private static boolean nonBlank(String s) { return s != null && !s.isBlank(); }
     private static String firstNonBlank(String... vals) {
         if (vals == null) return null;
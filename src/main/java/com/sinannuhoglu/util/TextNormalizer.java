@@ -0,0 +1,64 @@
+package com.sinannuhoglu.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Sayfa metinlerini karşılaştırmak için ortak normalize yardımcıları.
+ * <p>
+ * Desenler bir kez derlenir; diakritik içermeyen (ASCII) metinlerde NFD ayrıştırması atlanır.
+ * Davranış, sayfalardaki eski yerel kopyalarla birebir aynıdır.
+ */
+public final class TextNormalizer {
+
+    private static final Locale  TR         = Locale.forLanguageTag("tr");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern MARKS      = Pattern.compile("\\p{M}+");
+
+    private TextNormalizer() {}
+
+    /** Kırp, NBSP/boşlukları sadeleştir, İ/ı eşle, diakritikleri kaldır, küçült (AppointmentsPage). */
+    public static String like(String s) {
+        if (s == null) return "";
+        String t = WHITESPACE.matcher(s.trim().replace('\u00A0', ' ')).replaceAll(" ");
+        t = t.replace('İ', 'I').replace('ı', 'i');
+        return stripMarks(t).toLowerCase();
+    }
+
+    /** İki metin normalize edildiğinde eşit mi ya da biri diğerini içeriyor mu? */
+    public static boolean likeMatches(String a, String b) {
+        String na = like(a), nb = like(b);
+        return na.equals(nb) || na.contains(nb) || nb.contains(na);
+    }
+
+    /** Türkçe yerel ayarla küçült, boşlukları sadeleştir, diakritikleri kaldır (WorkplanBar). */
+    public static String trNorm(String s) {
+        if (s == null) return "";
+        String t = WHITESPACE.matcher(s.toLowerCase(TR)).replaceAll(" ").trim();
+        return stripMarks(t);
+    }
+
+    /** Türkçe harfleri ASCII karşılığına indir, diakritik kaldır, küçült, boşlukları sadeleştir (Tanımlar). */
+    public static String fold(String s) {
+        if (s == null) return "";
+        s = s.replace('ı', 'i').replace('İ', 'I')
+                .replace('ş', 's').replace('Ş', 'S')
+                .replace('ğ', 'g').replace('Ğ', 'G')
+                .replace('ç', 'c').replace('Ç', 'C')
+                .replace('ö', 'o').replace('Ö', 'O')
+                .replace('ü', 'u').replace('Ü', 'U');
+        String n = stripMarks(s).toLowerCase(Locale.ROOT).trim();
+        return WHITESPACE.matcher(n).replaceAll(" ");
+    }
+
+    /** NFD ayrıştırıp birleşik işaretleri siler; ASCII metin olduğu gibi döner. */
+    private static String stripMarks(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) {
+                return MARKS.matcher(Normalizer.normalize(s, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+        return s;
+    }
+}
@@ -0,0 +1,84 @@
+package com.sinannuhoglu.hooks;
+
+import com.sinannuhoglu.core.BackgroundCheckpoint;
+import com.sinannuhoglu.core.TestContext;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestSourceRead;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link BackgroundCheckpoint}'i Cucumber olaylarıyla besleyen eklenti: feature kaynağından Background
+ * satır aralığını çıkarır, senaryo başında Background adım sayısını, adım başında/sonunda sırayı bildirir.
+ * Geri yükleme {@code Hooks} içindeki {@code @Before} kancasında yapılır.
+ */
+public class BackgroundCheckpointPlugin implements ConcurrentEventListener {
+
+    /** feature uri → Background adımlarının satır aralığı [ilk, son) ; Background yoksa kayıt yok. */
+    private final Map<URI, int[]> backgrounds = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestSourceRead.class, e -> {
+            int[] range = backgroundRange(e.getSource());
+            if (range != null) backgrounds.put(e.getUri(), range);
+        });
+
+        publisher.registerHandlerFor(TestCaseStarted.class, e ->
+                BackgroundCheckpoint.begin(e.getTestCase().getUri().toString(), backgroundSteps(e.getTestCase())));
+
+        publisher.registerHandlerFor(TestStepStarted.class, e -> {
+            if (e.getTestStep() instanceof PickleStepTestStep) BackgroundCheckpoint.stepStarted();
+        });
+
+        publisher.registerHandlerFor(TestStepFinished.class, e -> {
+            if (!(e.getTestStep() instanceof PickleStepTestStep)) return;
+            TestContext ctx = TestContext.get();
+            if (!ctx.isInitialized()) return;
+            BackgroundCheckpoint.stepFinished(e.getResult().getStatus() == Status.PASSED, ctx.driver(), ctx.cfg());
+        });
+
+        publisher.registerHandlerFor(TestCaseFinished.class, e -> BackgroundCheckpoint.end());
+    }
+
+    private int backgroundSteps(TestCase testCase) {
+        int[] range = backgrounds.get(testCase.getUri());
+        if (range == null) return 0;
+        int n = 0;
+        for (var step : testCase.getTestSteps()) {
+            if (!(step instanceof PickleStepTestStep s)) continue;
+            int line = s.getStep().getLine();
+            if (line < range[0] || line >= range[1]) break;
+            n++;
+        }
+        return n;
+    }
+
+    /** Feature seviyesindeki "Background:" bloğunun satır aralığı (1-bazlı); Rule içi Background desteklenmez. */
+    static int[] backgroundRange(String source) {
+        String[] lines = source.split("\r?\n", -1);
+        int start = -1;
+        for (int i = 0; i < lines.length; i++) {
+            String t = lines[i].trim();
+            if (start < 0) {
+                if (t.startsWith("Rule:")) return null;
+                if (t.startsWith("Background:")) start = i + 1;
+                continue;
+            }
+            if (t.startsWith("@") || t.startsWith("Scenario") || t.startsWith("Example") || t.startsWith("Rule:")) {
+                return new int[]{start + 1, i + 1};
+            }
+        }
+        return start < 0 ? null : new int[]{start + 1, lines.length + 1};
+    }
+}
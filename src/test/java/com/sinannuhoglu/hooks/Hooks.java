@@ -1,37 +1,115 @@
 package com.sinannuhoglu.hooks;
 
+import com.sinannuhoglu.core.BackgroundCheckpoint;
+import com.sinannuhoglu.core.BrowserDiskCache;
+import com.sinannuhoglu.core.ConfigReader;
 import com.sinannuhoglu.core.TestContext;
+import com.sinannuhoglu.perf.ActionTimer;
+import com.sinannuhoglu.perf.FlightRecorder;
+import com.sinannuhoglu.perf.ScenarioProfile;
+import com.sinannuhoglu.perf.WebVitals;
+import com.sinannuhoglu.standin.DoctorinStandIn;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
-import io.qameta.allure.Attachment;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
 
-/** Cucumber hooks: initialize context before scenarios, attach screenshot on failure, then teardown. */
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/** Cucumber hooks: initialize context before scenarios, attach screenshot on failure (async, see ScreenshotService), then teardown. */
 public class Hooks {
 
+    /** {@code standin.enabled} açıksa (ör. {@code -Denv=standin}) yerel stand-in sunucusunu başlatır ve baseUrl'i ona çevirir. */
+    @BeforeAll
+    public static void startStandIn() {
+        DoctorinStandIn.startShared(ConfigReader.fromEnvironment());
+    }
+
+    @AfterAll
+    public static void stopStandIn() {
+        DoctorinStandIn.stopShared();
+    }
+
+    /** Arka planda kodlanan ekran görüntülerinin diske yazılmasını bekler. */
+    @AfterAll
+    public static void drainScreenshots() {
+        ScreenshotService.drain(Duration.ofSeconds(30));
+    }
+
     @Before(order = 0)
     public void startUp() {
-        TestContext.get().init();
+        TestContext ctx = TestContext.get();
+        ctx.init();
+        ActionTimer.reset();
+        FlightRecorder recorder = FlightRecorder.of(ctx.driver());
+        if (recorder != null) recorder.clear();
+        WebVitals vitals = WebVitals.of(ctx.driver());
+        if (vitals != null) vitals.drain();
+    }
+
+    /** Feature'ın Background checkpoint'i varsa geri yükler (BackgroundCheckpointPlugin ile birlikte). */
+    @Before(order = 10)
+    public void restoreBackgroundCheckpoint() {
+        TestContext ctx = TestContext.get();
+        BackgroundCheckpoint.restore(ctx.driver(), ctx.cfg());
+    }
+
+    /**
+     * Senaryonun zaman profilini (TimingProfilePlugin) Allure'a ekler; teardown'dan önce çalışır.
+     * Senaryo durumu ve toplam süre bu anda henüz belli olmadığından (TestCaseFinished'dan önce) eklenmez;
+     * bunlar Allure sonucunda ve koşum sonu timing-profile dosyasında yer alır.
+     */
+    @After(order = 200)
+    public void attachTimingProfile() {
+        ScenarioProfile p = ScenarioProfile.current();
+        if (p == null) return;
+        Map<String, Object> m = p.toMap();
+        m.remove("status");
+        m.remove("durationMs");
+        Allure.addAttachment("Timing profile", "application/json", new Json().toJson(m), ".json");
+    }
+
+    /** Sayfa geçişi ölçümleri açıksa ({@code selenium.vitals.enabled}) senaryonun örneklerini Allure'a ekler. */
+    @After(order = 160)
+    public void attachWebVitals() {
+        WebVitals vitals = WebVitals.of(TestContext.get().driver());
+        if (vitals == null) return;
+        vitals.flushPending();
+        List<Map<String, Object>> samples = vitals.drain();
+        if (samples.isEmpty()) return;
+        Allure.addAttachment("Web vitals", "application/json", new Json().toJson(samples), ".json");
+    }
+
+    /** Paylaşılan disk önbelleği açıksa senaryonun önbellek/ağ baytlarını loglar ve Allure'a ekler. */
+    @After(order = 150)
+    public void attachDiskCacheStats() {
+        Map<String, Object> stats = BrowserDiskCache.takeStats(TestContext.get().driver());
+        if (stats == null) return;
+        System.out.println("[BrowserDiskCache] Senaryo: önbellek " + stats.get("hitRequests") + " istek / "
+                + (long) stats.get("hitBytes") / 1024 + " KB, ağ " + stats.get("networkRequests") + " istek / "
+                + (long) stats.get("networkBytes") / 1024 + " KB");
+        Allure.addAttachment("Disk cache", "application/json", new Json().toJson(stats), ".json");
     }
 
     @After(order = 100)
     public void tearDown(Scenario scenario) {
+        WebDriver driver = TestContext.get().driver();
+        FlightRecorder recorder = FlightRecorder.of(driver);
         if (scenario.isFailed()) {
-            attachScreenshot();
+            ScreenshotService.get().capture(driver, "Failure screenshot");
+            if (recorder != null) {
+                recorder.outline();
+                Allure.addAttachment("Flight recorder", "application/json", new Json().toJson(recorder.toMap()), ".json");
+            }
             System.setProperty("keepOpen", "true");
         }
+        if (recorder != null) recorder.clear();
         TestContext.get().quit();
     }
-
-    @Attachment(value = "Failure screenshot", type = "image/png")
-    private byte[] attachScreenshot() {
-        try {
-            return ((TakesScreenshot) TestContext.get().driver())
-                    .getScreenshotAs(OutputType.BYTES);
-        } catch (Throwable t) {
-            return new byte[0];
-        }
-    }
 }
@@ -0,0 +1,184 @@
+package com.sinannuhoglu.hooks;
+
+import com.sinannuhoglu.core.ConfigReader;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hata ekran görüntüsü hattı: yakalama senaryo thread'inde (sürücü kapanmadan), küçültme + JPEG kodlama ve
+ * Allure'a yazma sınırlı bir arka plan havuzunda yapılır.
+ * <p>
+ * Ek, yakalama anında {@code prepareAttachment} ile senaryoya bağlanır (Allure bağlamı thread'e bağlı);
+ * dosya içeriği sonradan {@code writeAttachment} ile yazılır. Kuyruk doluysa iş çağıran thread'de çalışır
+ * (bellek sınırlı kalır). Kodlanan görüntü {@code maxKb}'yi aşarsa önce kalite, sonra boyut düşürülür.
+ * JDK ImageIO WebP yazamadığı için çıktı JPEG'dir; kodlama başarısızsa ek yazılmaz (ham PNG sınırı aşar).
+ * <p>
+ * Ayarlar (ConfigReader):
+ * <pre>
+ *   screenshot.scale    (default: 0.5)   genişlik/yükseklik çarpanı
+ *   screenshot.quality  (default: 0.75)  JPEG kalitesi (0..1)
+ *   screenshot.maxKb    (default: 250)
+ *   screenshot.threads  (default: 2)
+ *   screenshot.queue    (default: 8)
+ * </pre>
+ * Süreç sonunda {@link #drain(Duration)} bekleyen yazmaları tamamlar (Hooks @AfterAll).
+ */
+final class ScreenshotService {
+
+    private static final float MIN_QUALITY = 0.4f;
+
+    private static volatile ScreenshotService shared;
+
+    private final ThreadPoolExecutor executor;
+    private final double scale;
+    private final float quality;
+    private final long maxBytes;
+
+    private ScreenshotService(ConfigReader cfg) {
+        this.scale = Math.max(0.1, Math.min(1.0, cfg.getDouble("screenshot.scale", 0.5)));
+        this.quality = (float) Math.max(MIN_QUALITY, Math.min(1.0, cfg.getDouble("screenshot.quality", 0.75)));
+        this.maxBytes = cfg.getLong("screenshot.maxKb", 250) * 1024L;
+        int threads = Math.max(1, cfg.getInt("screenshot.threads", 2));
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, cfg.getInt("screenshot.queue", 8))),
+                r -> {
+                    Thread t = new Thread(r, "screenshot-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    static ScreenshotService get() {
+        ScreenshotService s = shared;
+        if (s != null) return s;
+        synchronized (ScreenshotService.class) {
+            if (shared == null) shared = new ScreenshotService(ConfigReader.fromEnvironment());
+            return shared;
+        }
+    }
+
+    /**
+     * Ekran görüntüsünü alır ve eki senaryoya bağlar; kodlama/yazma arka planda yapılır.
+     * @return yakalama başarılıysa true
+     */
+    boolean capture(WebDriver driver, String name) {
+        if (!(driver instanceof TakesScreenshot ts)) return false;
+        byte[] png;
+        long t0 = System.nanoTime();
+        try {
+            png = ts.getScreenshotAs(OutputType.BYTES);
+        } catch (RuntimeException e) {
+            System.out.println("[ScreenshotService] Yakalanamadı: " + e.getMessage());
+            return false;
+        }
+        long captureMs = (System.nanoTime() - t0) / 1_000_000L;
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, "image/jpeg", ".jpg");
+        executor.execute(() -> write(lifecycle, source, png, captureMs));
+        return true;
+    }
+
+    /** Kuyruktaki işlerin bitmesini en fazla {@code timeout} kadar bekler. */
+    static void drain(Duration timeout) {
+        ScreenshotService s = shared;
+        if (s == null) return;
+        s.executor.shutdown();
+        try {
+            if (!s.executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                System.out.println("[ScreenshotService] " + s.executor.getQueue().size() + " ek yazılamadan kaldı.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (ScreenshotService.class) {
+            if (shared == s) shared = null;
+        }
+    }
+
+    // ---------------------------------------------------------------------
+
+    private void write(AllureLifecycle lifecycle, String source, byte[] png, long captureMs) {
+        long t0 = System.nanoTime();
+        byte[] out;
+        try {
+            out = encode(png);
+        } catch (IOException | RuntimeException e) {
+            // ham PNG ne boyut sınırına uyar ne de bildirilen jpeg türüne: ek yazılmaz
+            System.out.println("[ScreenshotService] Kodlanamadı, ek atlandı (" + png.length / 1024 + " KB PNG): " + e.getMessage());
+            return;
+        }
+        lifecycle.writeAttachment(source, new ByteArrayInputStream(out));
+        System.out.println("[ScreenshotService] " + png.length / 1024 + " KB → " + out.length / 1024 + " KB (yakalama "
+                + captureMs + " ms, kodlama " + (System.nanoTime() - t0) / 1_000_000L + " ms)");
+    }
+
+    private byte[] encode(byte[] png) throws IOException {
+        BufferedImage src = ImageIO.read(new ByteArrayInputStream(png));
+        if (src == null) throw new IOException("PNG çözülemedi");
+        double s = scale;
+        float q = quality;
+        byte[] out = jpeg(resize(src, s), q);
+        while (out.length > maxBytes && q > MIN_QUALITY) {
+            q = Math.max(MIN_QUALITY, q - 0.15f);
+            out = jpeg(resize(src, s), q);
+        }
+        while (out.length > maxBytes && s > 0.2) {
+            s *= 0.75;
+            out = jpeg(resize(src, s), q);
+        }
+        return out;
+    }
+
+    private static BufferedImage resize(BufferedImage src, double s) {
+        int w = Math.max(1, (int) Math.round(src.getWidth() * s));
+        int h = Math.max(1, (int) Math.round(src.getHeight() * s));
+        // JPEG alfa kanalı taşımaz: RGB'ye çizilir
+        BufferedImage dst = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+
+    private static byte[] jpeg(BufferedImage img, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(bos)) {
+            writer.setOutput(ios);
+            ImageWriteParam p = writer.getDefaultWriteParam();
+            p.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            p.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(img, null, null), p);
+        } finally {
+            writer.dispose();
+        }
+        return bos.toByteArray();
+    }
+}
@@ -0,0 +1,118 @@
+package com.sinannuhoglu.hooks;
+
+import com.sinannuhoglu.perf.CommandTrace;
+import com.sinannuhoglu.perf.ScenarioProfile;
+import com.sinannuhoglu.util.AppConfig;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Gherkin adımlarının süresini {@link ScenarioProfile}'a işleyen Cucumber eklentisi.
+ * Koşum sonunda tüm senaryoların profili Allure'un sonuç dizinine ({@link AppConfig#allureResultsDir()})
+ * {@code timing-profile-<pid>.json} ve {@code .csv} olarak yazılır.
+ * <p>
+ * WebDriver komut/bekleme/page-object süreleri yalnızca {@code selenium.profile.enabled} açıkken dolar.
+ * {@link CommandTrace} etkinse adım sınırlarını ona da bildirir ve histogram raporunu
+ * {@code command-trace-<pid>.json} olarak yazar.
+ */
+public class TimingProfilePlugin implements ConcurrentEventListener {
+
+    private final Queue<ScenarioProfile> finished = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, e ->
+                ScenarioProfile.begin(e.getTestCase().getName(),
+                        e.getTestCase().getUri() + ":" + e.getTestCase().getLocation().getLine()));
+
+        publisher.registerHandlerFor(TestStepStarted.class, e -> {
+            if (!(e.getTestStep() instanceof PickleStepTestStep step)) return;
+            CommandTrace.stepStarted();
+            ScenarioProfile p = ScenarioProfile.current();
+            if (p != null) p.stepStarted(step.getStep().getKeyword() + step.getStep().getText());
+        });
+
+        publisher.registerHandlerFor(TestStepFinished.class, e -> {
+            if (!(e.getTestStep() instanceof PickleStepTestStep step)) return;
+            ScenarioProfile p = ScenarioProfile.current();
+            if (p != null) p.stepFinished(e.getResult().getStatus().name(), e.getResult().getDuration().toNanos());
+            CommandTrace.stepFinished(e.getTestCase().getName(), step.getStep().getText());
+        });
+
+        publisher.registerHandlerFor(TestCaseFinished.class, e -> {
+            ScenarioProfile p = ScenarioProfile.end(e.getResult().getStatus().name(), e.getResult().getDuration().toNanos());
+            if (p != null) finished.add(p);
+        });
+
+        publisher.registerHandlerFor(TestRunFinished.class, e -> write());
+    }
+
+    private void write() {
+        String pid = String.valueOf(ProcessHandle.current().pid());
+        if (CommandTrace.hasData()) {
+            writeFile("command-trace-" + pid + ".json", new Json().toJson(CommandTrace.report()));
+            System.out.println(CommandTrace.summary(10));
+        }
+        if (finished.isEmpty()) return;
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        for (ScenarioProfile p : finished) scenarios.add(p.toMap());
+
+        writeFile("timing-profile-" + pid + ".json", new Json().toJson(scenarios));
+        writeFile("timing-profile-" + pid + ".csv", toCsv(scenarios));
+        System.out.println("[TimingProfile] Yazıldı: timing-profile-" + pid + ".json|csv (" + scenarios.size() + " senaryo)");
+    }
+
+    private static void writeFile(String name, String content) {
+        Path dir = AppConfig.allureResultsDir();
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            System.out.println("[TimingProfile] Yazılamadı: " + name + " (" + ex.getMessage() + ")");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String toCsv(List<Map<String, Object>> scenarios) {
+        StringBuilder sb = new StringBuilder("kind,scenario,name,status,count,durationMs,commands,waitMs\n");
+        for (Map<String, Object> s : scenarios) {
+            String scenario = String.valueOf(s.get("scenario"));
+            for (Map<String, Object> st : (List<Map<String, Object>>) s.get("steps")) {
+                row(sb, "step", scenario, st.get("step"), st.get("status"), 1,
+                        st.get("durationMs"), st.get("commands"), st.get("waitMs"));
+            }
+            for (Map<String, Object> pm : (List<Map<String, Object>>) s.get("pageMethods")) {
+                row(sb, "pageMethod", scenario, pm.get("method"), "", pm.get("calls"), pm.get("totalMs"), "", "");
+            }
+            row(sb, "scenario", scenario, s.get("location"), s.get("status"), 1,
+                    s.get("durationMs"), s.get("commands"), s.get("waitMs"));
+        }
+        return sb.toString();
+    }
+
+    private static void row(StringBuilder sb, Object... cols) {
+        for (int i = 0; i < cols.length; i++) {
+            if (i > 0) sb.append(',');
+            String v = cols[i] == null ? "" : String.valueOf(cols[i]);
+            sb.append(v.contains(",") || v.contains("\"") ? "\"" + v.replace("\"", "\"\"") + "\"" : v);
+        }
+        sb.append('\n');
+    }
+}
@@ -0,0 +1,370 @@
+package com.sinannuhoglu.load;
+
+import com.sinannuhoglu.core.BrowserDiskCache;
+import com.sinannuhoglu.core.ConfigReader;
+import com.sinannuhoglu.core.DriverFactory;
+import com.sinannuhoglu.core.PageFactory;
+import com.sinannuhoglu.pages.AppointmentDefinitionsPage;
+import com.sinannuhoglu.pages.AppointmentResourceWorkplanPage;
+import com.sinannuhoglu.pages.AppointmentWorkplanBarPage;
+import com.sinannuhoglu.pages.AppointmentsPage;
+import com.sinannuhoglu.pages.DashboardPage;
+import com.sinannuhoglu.pages.LoginPage;
+import com.sinannuhoglu.pages.TenantSelectPage;
+import com.sinannuhoglu.perf.ActionTimer;
+import com.sinannuhoglu.standin.DoctorinStandIn;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * SyntheticLoad
+ * <p>
+ * Mevcut page object'leri yük sürücüsü olarak kullanır: N eşzamanlı headless oturum, her biri bir kez giriş
+ * yapıp workplan → randevu akışını ({@code workplan_to_appointment_e2e.feature}) süre dolana kadar tekrarlar.
+ * Her sanal kullanıcı bir virtual thread'dir; tarayıcı komutları bloklayan HTTP çağrıları olduğundan platform
+ * thread'i tutmaz. İş eylemi başına süreler ham örnek olarak tutulur ve dakikadaki işlem hızı ile kesin
+ * yüzdelikler (p50/p90/p95/p99) raporlanır; rapor konsola ve {@code load.result} JSON dosyasına yazılır.
+ * <p>
+ * Hata veren yineleme eylemin hata sayacına işlenir; oturum kapatılır ve sonraki yineleme yeni oturumla
+ * (yeniden giriş) başlar. Aynı doktor/slot'u paylaşan kullanıcılar birbiriyle çakışır; gerçekçi eşzamanlılık
+ * için {@code load.doctors} / {@code load.slots} listeleri kullanıcılara sırayla dağıtılır.
+ * <p>
+ * Çalıştırma: {@code mvn -Pload verify -Dload.users=10 -Dload.duration=10m [-Denv=...]}
+ * <p>
+ * Ayarlar (ConfigReader):
+ * <pre>
+ *   load.users          (default: 5)
+ *   load.rampUp         (default: 30s)   kullanıcılar bu sürede eşit aralıklarla başlar
+ *   load.duration       (default: 5m)    bu süreden sonra yeni yineleme başlamaz
+ *   load.iterations     (default: 0)     kullanıcı başına üst sınır; 0 = sınırsız
+ *   load.thinkTime.min  (default: 1s)
+ *   load.thinkTime.max  (default: 3s)    eylemler arası rastgele bekleme
+ *   load.headless       (default: true)
+ *   load.doctors, load.slots, load.day, load.branch, load.department, load.patient
+ *   load.tenant / load.username / load.password  (yoksa auth.username / auth.password)
+ *   load.result         (default: target/load-result.json)
+ * </pre>
+ */
+public final class SyntheticLoad {
+
+    static final String SESSION = "session.start";
+    static final String LOGIN = "login";
+    static final String DEFINITIONS_OPEN = "definitions.open";
+    static final String WORKPLAN_EDIT = "workplan.edit";
+    static final String FILTERS_APPLY = "filters.apply";
+    static final String SLOT_OPEN = "slot.open";
+    static final String APPOINTMENT_DELETE = "appointment.delete";
+    static final String ITERATION = "iteration";
+
+    private static final List<String> ACTIONS = List.of(SESSION, LOGIN, ActionTimer.APPOINTMENTS_LOAD, DEFINITIONS_OPEN,
+            WORKPLAN_EDIT, ActionTimer.WORKPLAN_SAVE, FILTERS_APPLY, SLOT_OPEN, ActionTimer.PATIENT_SEARCH,
+            APPOINTMENT_DELETE, ITERATION);
+
+    private final ConfigReader cfg;
+    private final int users;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final int iterations;
+    private final long thinkMinMs;
+    private final long thinkMaxMs;
+    private final List<String> doctors;
+    private final List<String> slots;
+    private final Map<String, ActionStats> stats = new LinkedHashMap<>();
+
+    private volatile boolean stopped;
+
+    SyntheticLoad(ConfigReader cfg) {
+        this.cfg = cfg;
+        this.users = Math.max(1, cfg.getInt("load.users", 5));
+        this.rampUp = cfg.getDuration("load.rampUp", Duration.ofSeconds(30));
+        this.duration = cfg.getDuration("load.duration", Duration.ofMinutes(5));
+        this.iterations = Math.max(0, cfg.getInt("load.iterations", 0));
+        this.thinkMinMs = cfg.getDuration("load.thinkTime.min", Duration.ofSeconds(1)).toMillis();
+        this.thinkMaxMs = Math.max(thinkMinMs, cfg.getDuration("load.thinkTime.max", Duration.ofSeconds(3)).toMillis());
+        this.doctors = orDefault(cfg.getList("load.doctors"), "Prof. Dr. Derman Bulur");
+        this.slots = orDefault(cfg.getList("load.slots"), "10:30");
+        for (String a : ACTIONS) stats.put(a, new ActionStats());
+    }
+
+    public static void main(String[] args) throws IOException {
+        ConfigReader cfg = ConfigReader.fromEnvironment();
+        if (System.getProperty("headless") == null) {
+            System.setProperty("headless", String.valueOf(cfg.getBoolean("load.headless", true)));
+        }
+        DoctorinStandIn.startShared(cfg);
+        try {
+            SyntheticLoad load = new SyntheticLoad(cfg);
+            Map<String, Object> report = load.run();
+            Path out = Path.of(cfg.get("load.result", "target/load-result.json"));
+            if (out.getParent() != null) Files.createDirectories(out.getParent());
+            Files.writeString(out, new Json().toJson(report));
+            System.out.println("[SyntheticLoad] Rapor: " + out.toAbsolutePath());
+            if (load.stats.get(ITERATION).count() == 0) {
+                throw new IllegalStateException("Hiçbir yineleme tamamlanamadı; hata sayaçlarına bakın.");
+            }
+        } finally {
+            DoctorinStandIn.stopShared();
+        }
+    }
+
+    /** Kullanıcıları başlatır, hepsi bitene kadar bekler ve raporu döndürür. */
+    Map<String, Object> run() {
+        System.out.println("[SyntheticLoad] users=" + users + " rampUp=" + rampUp + " duration=" + duration
+                + " iterations=" + (iterations == 0 ? "∞" : iterations) + " think=" + thinkMinMs + ".." + thinkMaxMs + " ms");
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        long stagger = users > 1 ? rampUp.toNanos() / users : 0L;
+        try (ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                final int id = i;
+                final long startAt = start + id * stagger;
+                sessions.submit(() -> runUser(id, startAt, deadline));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        Map<String, Object> report = report(elapsedNanos);
+        print(report);
+        return report;
+    }
+
+    // ---------------------------------------------------------------------
+
+    private void runUser(int id, long startAt, long deadline) {
+        if (!sleepUntil(startAt)) return;
+        String doctor = doctors.get(id % doctors.size());
+        String slot = slots.get(id % slots.size());
+        WebDriver driver = null;
+        int done = 0;
+        try {
+            while (!stopped && System.nanoTime() < deadline && (iterations == 0 || done < iterations)) {
+                try {
+                    if (driver == null) driver = openSession();
+                    long t0 = System.nanoTime();
+                    iteration(driver, doctor, slot);
+                    stats.get(ITERATION).record(System.nanoTime() - t0);
+                    done++;
+                } catch (RuntimeException e) {
+                    stats.get(ITERATION).error();
+                    System.out.println("[SyntheticLoad] Kullanıcı " + id + " yineleme hatası: "
+                            + e.getClass().getSimpleName() + " — oturum yenilenecek.");
+                    quit(driver);
+                    driver = null;
+                    think();
+                }
+            }
+        } finally {
+            quit(driver);
+            System.out.println("[SyntheticLoad] Kullanıcı " + id + " bitti (" + done + " yineleme).");
+        }
+    }
+
+    /** Yeni tarayıcı + giriş + randevular modülü (oturum başına bir kez). */
+    private WebDriver openSession() {
+        WebDriver driver = measure(SESSION, DriverFactory::create);
+        try {
+            String tenant = cfg.get("load.tenant", "Nişantaşı Klinik");
+            String user = cfg.get("load.username", cfg.get("auth.username", "Test"));
+            String pass = cfg.get("load.password", cfg.get("auth.password", "Test123."));
+            step(LOGIN, () -> {
+                page(LoginPage.class, driver).open();
+                page(TenantSelectPage.class, driver).openTenantModal().selectTenant(tenant);
+                page(LoginPage.class, driver).fillCredentials(user, pass).submit();
+                page(DashboardPage.class, driver).assertLoaded();
+            });
+            step(ActionTimer.APPOINTMENTS_LOAD, () -> page(DashboardPage.class, driver).openAppointments());
+            return driver;
+        } catch (RuntimeException e) {
+            quit(driver);
+            throw e;
+        }
+    }
+
+    /** Tek yineleme: workplan güncelle → randevu ekranında slot aç → hasta ara → randevuyu sil. */
+    private void iteration(WebDriver driver, String doctor, String slot) {
+        AppointmentDefinitionsPage defs = page(AppointmentDefinitionsPage.class, driver);
+        AppointmentResourceWorkplanPage workplan = page(AppointmentResourceWorkplanPage.class, driver);
+        AppointmentWorkplanBarPage bar = page(AppointmentWorkplanBarPage.class, driver);
+        AppointmentsPage appointments = page(AppointmentsPage.class, driver);
+        String[] hhmm = slot.split(":");
+
+        step(DEFINITIONS_OPEN, () -> {
+            defs.openDefinitionsFromSidePanel();
+            defs.openResourcesUnderDefinitions();
+        });
+        step(WORKPLAN_EDIT, () -> {
+            defs.clickEditForResourceByName(doctor);
+            workplan.openWorkplanTab();
+            workplan.openWorkplanForDay(cfg.get("load.day", "Çarşamba"));
+            workplan.waitForWorkplanManagementBar();
+            bar.ensureVisible();
+            bar.setStartTime("08:00");
+            bar.setEndTime("18:00");
+            bar.selectBranch(cfg.get("load.branch", "Nişantaşı"));
+            bar.selectAllAppointmentTypes();
+            bar.ensureAllPlatformsSelected();
+            bar.selectAllDepartments();
+        });
+        step(ActionTimer.WORKPLAN_SAVE, () -> {
+            bar.clickSaveAndReturnToAppointments();
+            appointments.assertLoaded();
+        });
+        step(FILTERS_APPLY, () -> {
+            appointments.openFilterPanel();
+            appointments.selectBranch(cfg.get("load.branch", "Nişantaşı"));
+            appointments.selectDepartment(cfg.get("load.department", "KBB"));
+            appointments.keepOnlyDoctor(doctor);
+            appointments.applyFilters();
+        });
+        step(SLOT_OPEN, () -> appointments.clickSlotAt(Integer.parseInt(hhmm[0].trim()), Integer.parseInt(hhmm[1].trim())));
+        step(ActionTimer.PATIENT_SEARCH, () -> appointments.searchPatientInSidebar(cfg.get("load.patient", "HASTANUR İYİLEŞMEZ")));
+        step(APPOINTMENT_DELETE, () -> {
+            appointments.openAppointmentDetailsOfLastSlot();
+            appointments.deleteAppointmentOfLastSlot();
+        });
+    }
+
+    private void step(String action, Runnable body) {
+        measure(action, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /** Eylemi ölçer (hata sayacına işleyip yeniden fırlatır), ardından düşünme süresi bekler. */
+    private <T> T measure(String action, Supplier<T> body) {
+        long t0 = System.nanoTime();
+        T result;
+        try {
+            result = body.get();
+        } catch (RuntimeException e) {
+            stats.get(action).error();
+            throw e;
+        }
+        stats.get(action).record(System.nanoTime() - t0);
+        think();
+        return result;
+    }
+
+    private void think() {
+        if (thinkMaxMs <= 0) return;
+        long ms = thinkMinMs == thinkMaxMs ? thinkMinMs : ThreadLocalRandom.current().nextLong(thinkMinMs, thinkMaxMs + 1);
+        sleepUntil(System.nanoTime() + ms * 1_000_000L);
+    }
+
+    /** @return kesintisiz uyandıysa true */
+    private boolean sleepUntil(long nanoTime) {
+        long wait = nanoTime - System.nanoTime();
+        if (wait <= 0) return true;
+        try {
+            Thread.sleep(Duration.ofNanos(wait));
+            return true;
+        } catch (InterruptedException e) {
+            stopped = true;
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <P> P page(Class<P> type, WebDriver driver) {
+        return PageFactory.create(type, driver, cfg);
+    }
+
+    private static void quit(WebDriver driver) {
+        if (driver == null) return;
+        try { driver.quit(); } catch (Exception ignored) {}
+        BrowserDiskCache.release(driver);
+    }
+
+    private static List<String> orDefault(List<String> values, String def) {
+        return values.isEmpty() ? List.of(def) : values;
+    }
+
+    // ---------------------------------------------------------------------
+
+    private Map<String, Object> report(long elapsedNanos) {
+        double minutes = elapsedNanos / 60e9;
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("users", users);
+        m.put("rampUpSec", rampUp.toSeconds());
+        m.put("durationSec", duration.toSeconds());
+        m.put("elapsedSec", Math.round(elapsedNanos / 1e9));
+        m.put("thinkTimeMs", List.of(thinkMinMs, thinkMaxMs));
+        Map<String, Object> actions = new LinkedHashMap<>();
+        stats.forEach((name, s) -> actions.put(name, s.toMap(minutes)));
+        m.put("actions", actions);
+        return m;
+    }
+
+    private static void print(Map<String, Object> report) {
+        System.out.println("[SyntheticLoad] " + report.get("users") + " kullanıcı, " + report.get("elapsedSec") + " s");
+        System.out.println(String.format("%-20s %7s %6s %8s %8s %8s %8s %8s %8s",
+                "eylem", "adet", "hata", "/dk", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms"));
+        ((Map<?, ?>) report.get("actions")).forEach((name, v) -> {
+            Map<?, ?> a = (Map<?, ?>) v;
+            if (((Number) a.get("count")).longValue() == 0 && ((Number) a.get("errors")).longValue() == 0) return;
+            System.out.println(String.format("%-20s %7s %6s %8s %8s %8s %8s %8s %8s", name, a.get("count"),
+                    a.get("errors"), a.get("perMinute"), a.get("p50Ms"), a.get("p90Ms"), a.get("p95Ms"),
+                    a.get("p99Ms"), a.get("maxMs")));
+        });
+    }
+
+    /**
+     * Eylem başına ham süre örnekleri (ms). Yük koşusunda örnek sayısı küçüktür (kullanıcı × yineleme), bu yüzden
+     * kovalı {@code LatencyHistogram} yerine kesin yüzdelik (nearest-rank) hesaplanır.
+     */
+    static final class ActionStats {
+        private long[] samples = new long[64];
+        private int count;
+        private long errors;
+
+        synchronized void record(long nanos) {
+            if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+            samples[count++] = nanos / 1_000_000L;
+        }
+
+        synchronized void error() {
+            errors++;
+        }
+
+        synchronized int count() {
+            return count;
+        }
+
+        synchronized Map<String, Object> toMap(double minutes) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            long total = 0;
+            for (long s : sorted) total += s;
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("count", count);
+            m.put("errors", errors);
+            m.put("perMinute", minutes <= 0 ? 0 : Math.round(count / minutes * 100) / 100.0);
+            m.put("avgMs", count == 0 ? 0 : total / count);
+            m.put("p50Ms", percentile(sorted, 0.50));
+            m.put("p90Ms", percentile(sorted, 0.90));
+            m.put("p95Ms", percentile(sorted, 0.95));
+            m.put("p99Ms", percentile(sorted, 0.99));
+            m.put("maxMs", count == 0 ? 0 : sorted[count - 1]);
+            return m;
+        }
+
+        private static long percentile(long[] sorted, double q) {
+            if (sorted.length == 0) return 0;
+            int rank = (int) Math.ceil(q * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.sinannuhoglu.runners;
+
+import com.sinannuhoglu.core.ConfigReader;
+import com.sinannuhoglu.core.DriverPool;
+import com.sinannuhoglu.core.TestContext;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Başarısız senaryoları aynı JVM'de ikinci turda yeniden koşan koşumcu tabanı.
+ * <p>
+ * İlk turda düşen senaryolar {@code target/rerun/failed-<pid>.txt} dosyasına Cucumber rerun biçiminde
+ * ({@code uri:satır}) yazılır. {@code rerun.enabled} açıksa ilk deneme TestNG'de "skipped" sayılır ve
+ * {@link #rerunFailed} yalnızca bu senaryoları tekrar koşar; sonuç ikinci denemeye göre belirlenir.
+ * Allure iki denemeyi aynı historyId altında birleştirir (ikinci deneme sonuç, ilki "Retries" geçmişi).
+ * <p>
+ * {@code rerun.reuseSession} açıksa ikinci tur havuzlu koşar ("pooled rerun"): sürücü havuzu ve oturum önbelleği
+ * config'ten bağımsız kullanılır. Havuz kapalıysa yeniden deneme sayısına göre boyutlanan bir havuz
+ * ({@link DriverPool#forRerun(int)}) kurulur; ilk turun tarayıcısı değil, ikinci tur boyunca paylaşılan tek bir
+ * ısınmış tarayıcı ve bir kez açılan oturum kullanılır.
+ * <pre>
+ *   rerun.enabled      (default: false)   -Drerun.enabled=true
+ *   rerun.reuseSession (default: true)
+ * </pre>
+ */
+public abstract class RerunningCucumberTests extends AbstractTestNGCucumberTests {
+
+    private static final Path RERUN_DIR = Paths.get("target", "rerun");
+
+    private final Queue<Object[]> failed = new ConcurrentLinkedQueue<>();
+
+    @Override
+    @Test(groups = "cucumber", description = "Runs Cucumber Scenarios", dataProvider = "scenarios")
+    public void runScenario(PickleWrapper pickleWrapper, FeatureWrapper featureWrapper) {
+        try {
+            super.runScenario(pickleWrapper, featureWrapper);
+        } catch (SkipException e) {
+            throw e;
+        } catch (Throwable t) {
+            failed.add(new Object[]{pickleWrapper, featureWrapper});
+            if (!rerunEnabled()) throw t;
+            throw new SkipException("İlk denemede başarısız, ikinci turda yeniden koşulacak: "
+                    + pickleWrapper.getPickle().getName() + " (" + t + ")");
+        }
+    }
+
+    /** İlk turda düşen senaryoları yeniden koşar (rerun.enabled kapalıysa veri sağlayıcı boş döner). */
+    @Test(groups = "cucumber", description = "Reruns failed Cucumber Scenarios",
+            dataProvider = "failedScenarios", dependsOnMethods = "runScenario", alwaysRun = true)
+    public void rerunFailed(PickleWrapper pickleWrapper, FeatureWrapper featureWrapper) {
+        TestContext ctx = TestContext.get();
+        ctx.setReuseWarmSession(reuseSession());
+        try {
+            super.runScenario(pickleWrapper, featureWrapper);
+        } finally {
+            ctx.setReuseWarmSession(false);
+        }
+    }
+
+    @DataProvider
+    public Object[][] failedScenarios() {
+        if (failed.isEmpty()) return new Object[0][];
+        writeRerunFile();
+        if (!rerunEnabled()) return new Object[0][];
+        if (reuseSession()) DriverPool.forRerun(failed.size());
+        System.out.println("[Rerun] İkinci tur: " + failed.size() + " senaryo" + (reuseSession() ? " (havuzlu)" : ""));
+        return failed.toArray(new Object[0][]);
+    }
+
+    // ---------------------------------------------------------------------
+
+    private void writeRerunFile() {
+        List<String> lines = new ArrayList<>();
+        for (Object[] row : failed) {
+            Pickle p = ((PickleWrapper) row[0]).getPickle();
+            lines.add(p.getUri() + ":" + p.getLine());
+        }
+        Path file = RERUN_DIR.resolve("failed-" + ProcessHandle.current().pid() + ".txt");
+        try {
+            Files.createDirectories(RERUN_DIR);
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            System.out.println("[Rerun] Yazıldı: " + file + " (" + lines.size() + " senaryo)");
+        } catch (IOException e) {
+            System.out.println("[Rerun] Yazılamadı: " + file + " (" + e.getMessage() + ")");
+        }
+    }
+
+    private static boolean rerunEnabled() {
+        return ConfigReader.fromEnvironment().getBoolean("rerun.enabled", false);
+    }
+
+    private static boolean reuseSession() {
+        return ConfigReader.fromEnvironment().getBoolean("rerun.reuseSession", true);
+    }
+}
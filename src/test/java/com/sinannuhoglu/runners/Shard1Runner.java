@@ -0,0 +1,6 @@
+package com.sinannuhoglu.runners;
+
+/** Shard 1 / ${shards} (bkz. {@link ShardedRunner}). */
+public class Shard1Runner extends ShardedRunner {
+    public Shard1Runner() { super(1); }
+}
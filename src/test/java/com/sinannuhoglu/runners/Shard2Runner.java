@@ -0,0 +1,6 @@
+package com.sinannuhoglu.runners;
+
+/** Shard 2 / ${shards} (bkz. {@link ShardedRunner}). */
+public class Shard2Runner extends ShardedRunner {
+    public Shard2Runner() { super(2); }
+}
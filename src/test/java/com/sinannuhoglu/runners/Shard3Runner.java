@@ -0,0 +1,6 @@
+package com.sinannuhoglu.runners;
+
+/** Shard 3 / ${shards} (bkz. {@link ShardedRunner}). */
+public class Shard3Runner extends ShardedRunner {
+    public Shard3Runner() { super(3); }
+}
@@ -0,0 +1,6 @@
+package com.sinannuhoglu.runners;
+
+/** Shard 4 / ${shards} (bkz. {@link ShardedRunner}). */
+public class Shard4Runner extends ShardedRunner {
+    public Shard4Runner() { super(4); }
+}
@@ -0,0 +1,6 @@
+package com.sinannuhoglu.runners;
+
+/** Shard 5 / ${shards} (bkz. {@link ShardedRunner}). */
+public class Shard5Runner extends ShardedRunner {
+    public Shard5Runner() { super(5); }
+}
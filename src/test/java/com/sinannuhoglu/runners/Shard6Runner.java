@@ -0,0 +1,6 @@
+package com.sinannuhoglu.runners;
+
+/** Shard 6 / ${shards} (bkz. {@link ShardedRunner}). */
+public class Shard6Runner extends ShardedRunner {
+    public Shard6Runner() { super(6); }
+}
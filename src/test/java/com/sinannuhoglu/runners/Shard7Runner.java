@@ -0,0 +1,6 @@
+package com.sinannuhoglu.runners;
+
+/** Shard 7 / ${shards} (bkz. {@link ShardedRunner}). */
+public class Shard7Runner extends ShardedRunner {
+    public Shard7Runner() { super(7); }
+}
@@ -0,0 +1,6 @@
+package com.sinannuhoglu.runners;
+
+/** Shard 8 / ${shards} (bkz. {@link ShardedRunner}). */
+public class Shard8Runner extends ShardedRunner {
+    public Shard8Runner() { super(8); }
+}
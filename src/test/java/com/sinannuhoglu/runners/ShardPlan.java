@@ -0,0 +1,180 @@
+package com.sinannuhoglu.runners;
+
+import com.sinannuhoglu.util.AppConfig;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Senaryoları geçmiş sürelere göre shard'lara dağıtan plan (LPT: en uzun senaryo, en az yüklü shard'a).
+ * <p>
+ * Süreler önceki koşumların allure {@code *-result.json} dosyalarından ({@code fullName = uri:satır}) okunur;
+ * aynı senaryonun birden çok sonucu varsa ortalaması alınır. Geçmişi olmayan senaryoya bilinenlerin medyanı
+ * (hiç yoksa {@value #DEFAULT_MS} ms) atanır.
+ * <p>
+ * Her fork planı bağımsız hesaplar; aynı sonuca varmaları için yalnızca {@code shard.runStart}'tan
+ * (Maven build zamanı) önce yazılmış sonuç dosyaları okunur ve sıralama kararlıdır.
+ * <pre>
+ *   shard.count    toplam shard (1..{@value #MAX_SHARDS})
+ *   shard.history  geçmiş dizini (default: Allure'un sonuç dizini, bkz. AppConfig.allureResultsDir)
+ *   shard.runStart ISO-8601 an; bu andan sonra yazılan sonuçlar yok sayılır
+ * </pre>
+ */
+final class ShardPlan {
+
+    static final int MAX_SHARDS = 8;
+    private static final long DEFAULT_MS = 60_000L;
+
+    private ShardPlan() {}
+
+    /**
+     * Toplam shard sayısı ({@code -Dshard.count}, 1..8).
+     * Koşumcu sınıfları ({@code Shard1..8Runner}) sabit olduğundan 8'den büyük değer reddedilir; aksi halde
+     * fazla fork'lar boş kalır ve plan dengesi yanıltıcı olur.
+     */
+    static int shardCount() {
+        int n;
+        try {
+            n = Integer.parseInt(System.getProperty("shard.count", "1").trim());
+        } catch (NumberFormatException e) {
+            n = 1;
+        }
+        if (n > MAX_SHARDS) {
+            throw new IllegalArgumentException("shard.count=" + n + " desteklenmiyor (1.." + MAX_SHARDS
+                    + "); -Dshards değerini düşürün ya da ShardNRunner sınıfı ekleyin.");
+        }
+        return Math.max(1, n);
+    }
+
+    /** Data provider satırlarından ({@code {PickleWrapper, FeatureWrapper}}) verilen shard'a (1-bazlı) düşenleri döndürür. */
+    static Object[][] select(Object[][] all, int shard, int count) {
+        if (shard > count) return new Object[0][];
+        if (count == 1) return all;
+
+        Map<String, Long> history = loadHistory();
+        if (history.isEmpty()) {
+            System.out.println("[ShardPlan] UYARI: geçmiş bulunamadı (" + historyDir().toAbsolutePath()
+                    + "); her senaryoya " + DEFAULT_MS / 1000 + " sn atanır, dağılım sayıya göre olur.");
+        }
+        long fallback = median(history.values());
+
+        Integer[] order = new Integer[all.length];
+        long[] expected = new long[all.length];
+        String[] keys = new String[all.length];
+        int known = 0;
+        for (int i = 0; i < all.length; i++) {
+            order[i] = i;
+            Pickle p = ((PickleWrapper) all[i][0]).getPickle();
+            keys[i] = key(p.getUri().toString(), p.getLine());
+            Long ms = history.get(keys[i]);
+            if (ms != null) known++;
+            expected[i] = ms != null ? ms : fallback;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingLong(i -> -expected[i]).thenComparing(i -> keys[i]));
+
+        long[] load = new long[count];
+        int[] assigned = new int[all.length];
+        for (int i : order) {
+            int min = 0;
+            for (int s = 1; s < count; s++) if (load[s] < load[min]) min = s;
+            load[min] += expected[i];
+            assigned[i] = min + 1;
+        }
+
+        List<Object[]> mine = new ArrayList<>();
+        for (int i = 0; i < all.length; i++) if (assigned[i] == shard) mine.add(all[i]);
+
+        System.out.println("[ShardPlan] shard " + shard + "/" + count + ": " + mine.size() + "/" + all.length
+                + " senaryo, beklenen ~" + load[shard - 1] / 1000 + " sn (geçmiş: " + known + "/" + all.length
+                + ", yükler: " + Arrays.toString(Arrays.stream(load).map(l -> l / 1000).toArray()) + " sn)");
+        return mine.toArray(new Object[0][]);
+    }
+
+    // ---------------------------------------------------------------------
+
+    /** {@code .../features/x.feature:12} biçimi; uri'nin şeması ve features/ öncesi yol atılır. */
+    static String key(String uri, int line) {
+        String u = uri;
+        int i = u.lastIndexOf("features/");
+        if (i >= 0) u = u.substring(i);
+        return u + ":" + line;
+    }
+
+    private static Map<String, Long> loadHistory() {
+        Path dir = historyDir();
+        Instant cutoff = parseInstant(System.getProperty("shard.runStart"));
+        Map<String, long[]> acc = new HashMap<>();
+        if (!Files.isDirectory(dir)) return Map.of();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(f -> f.getFileName().toString().endsWith("-result.json"))
+                    .filter(f -> cutoff == null || modifiedBefore(f, cutoff))
+                    .forEach(f -> record(f, acc));
+        } catch (IOException e) {
+            System.out.println("[ShardPlan] Geçmiş okunamadı: " + dir + " (" + e.getMessage() + ")");
+        }
+        Map<String, Long> out = new HashMap<>();
+        acc.forEach((k, v) -> out.put(k, v[0] / v[1]));
+        return out;
+    }
+
+    private static Path historyDir() {
+        String dir = System.getProperty("shard.history");
+        return dir != null && !dir.isBlank() ? Paths.get(dir.trim()) : AppConfig.allureResultsDir();
+    }
+
+    private static void record(Path file, Map<String, long[]> acc) {
+        try {
+            Map<String, Object> r = new Json().toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            Object fullName = r.get("fullName");
+            if (!(fullName instanceof String fn) || !(r.get("start") instanceof Number start)
+                    || !(r.get("stop") instanceof Number stop)) return;
+            int colon = fn.lastIndexOf(':');
+            if (colon < 0) return;
+            String k = key(fn.substring(0, colon), Integer.parseInt(fn.substring(colon + 1)));
+            long[] a = acc.computeIfAbsent(k, x -> new long[2]);
+            a[0] += Math.max(0, stop.longValue() - start.longValue());
+            a[1]++;
+        } catch (RuntimeException | IOException ignored) {
+            // bozuk/yabancı sonuç dosyası: yok say
+        }
+    }
+
+    private static boolean modifiedBefore(Path f, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(f).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Instant parseInstant(String s) {
+        if (s == null || s.isBlank()) return null;
+        try {
+            return Instant.parse(s.trim());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static long median(Collection<Long> values) {
+        if (values.isEmpty()) return DEFAULT_MS;
+        long[] v = values.stream().mapToLong(Long::longValue).sorted().toArray();
+        return v[v.length / 2];
+    }
+}
@@ -0,0 +1,39 @@
+package com.sinannuhoglu.runners;
+
+import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.DataProvider;
+
+/**
+ * Senaryoları surefire fork'larına bölen koşumcu tabanı. Her {@code ShardNRunner} ayrı bir JVM'de
+ * (kendi tarayıcısıyla) çalışır ve {@link ShardPlan}'ın geçmiş sürelere göre kendisine atadığı
+ * senaryoları koşar; N, {@code shard.count}'tan büyükse boş döner.
+ * <p>
+ * Çalıştırma: {@code mvn test -Psharded -Dshards=4} (fork sayısı = shard sayısı).
+ * Fork içi paralellik SmokeRunner'daki gibi {@code threads} ile ayarlanır; başarısız senaryolar
+ * fork içinde ikinci turda yeniden koşulabilir ({@link RerunningCucumberTests}).
+ */
+@CucumberOptions(
+        features = {"src/test/resources/features"},
+        glue = {"com.sinannuhoglu.steps", "com.sinannuhoglu.hooks"},
+        plugin = {
+                "pretty",
+                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
+                "com.sinannuhoglu.hooks.TimingProfilePlugin",
+                "com.sinannuhoglu.hooks.BackgroundCheckpointPlugin"
+        },
+        monochrome = true
+)
+public abstract class ShardedRunner extends RerunningCucumberTests {
+
+    private final int shard;
+
+    protected ShardedRunner(int shard) {
+        this.shard = shard;
+    }
+
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return ShardPlan.select(super.scenarios(), shard, ShardPlan.shardCount());
+    }
+}
@@ -1,14 +1,32 @@
 package com.sinannuhoglu.runners;
 
-import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.DataProvider;
 
+/**
+ * Senaryolar TestNG data provider'ı üzerinden paralel koşabilir; her worker thread
+ * kendi TestContext'i ile izole çalışır. Thread sayısı Maven {@code threads} özelliğiyle
+ * (surefire → dataproviderthreadcount) ayarlanır; varsayılan 1 ardışık koşumdur.
+ * Başarısız senaryolar için ikinci tur: bkz. {@link RerunningCucumberTests}.
+ */
 @CucumberOptions(
         features = {
                 "src/test/resources/features/appointment/workplan_to_appointment_e2e.feature"
         },
         glue = {"com.sinannuhoglu.steps", "com.sinannuhoglu.hooks"},
-        plugin = {"pretty", "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm"},
+        plugin = {
+                "pretty",
+                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
+                "com.sinannuhoglu.hooks.TimingProfilePlugin",
+                "com.sinannuhoglu.hooks.BackgroundCheckpointPlugin"
+        },
         monochrome = true
 )
-public class SmokeRunner extends AbstractTestNGCucumberTests { }
+public class SmokeRunner extends RerunningCucumberTests {
+
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
+}
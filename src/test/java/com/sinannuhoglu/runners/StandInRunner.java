@@ -0,0 +1,32 @@
+package com.sinannuhoglu.runners;
+
+import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.DataProvider;
+
+/**
+ * Çevrimdışı stand-in koşumcusu: yalnızca stand-in'in kopyaladığı ekranlarla (login/tenant, dashboard,
+ * Randevular filtre/slot/hasta arama/silme) koşabilen {@code @standin} etiketli feature'lar.
+ * Çalışma Takvimi editörü kopyalanmadığından workplan feature'ları dahil değildir.
+ * <p>
+ * Çalıştırma: {@code mvn test -Pstandin} (profil {@code env=standin} ve {@code cucumber.filter.tags=@standin}
+ * ayarlar; varsayılan koşumda bu sınıf hariç tutulur).
+ */
+@CucumberOptions(
+        features = {"src/test/resources/features"},
+        glue = {"com.sinannuhoglu.steps", "com.sinannuhoglu.hooks"},
+        plugin = {
+                "pretty",
+                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
+                "com.sinannuhoglu.hooks.TimingProfilePlugin",
+                "com.sinannuhoglu.hooks.BackgroundCheckpointPlugin"
+        },
+        monochrome = true
+)
+public class StandInRunner extends RerunningCucumberTests {
+
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
+}
@@ -0,0 +1,226 @@
+package com.sinannuhoglu.standin;
+
+import com.sinannuhoglu.core.ConfigReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Doctorin arayüzünün çevrimdışı vekili: page object'lerin hedeflediği ekranların statik kopyalarını
+ * localhost'tan sunan gömülü HTTP sunucusu (JDK {@code HttpServer}).
+ * <p>
+ * Kapsam: login formu ve tenant modalı, dashboard modülleri, Randevular (filtre paneli {@code data-testid}
+ * blokları, Syncfusion scheduler {@code td.e-work-cells}, randevu drawer'ı, quick popup ve silme onayı),
+ * Tanımlar &gt; Kaynaklar grid'i (pager ve sayfa boyutu). Çalışma takvimi editörü kopyalanmadı.
+ * Kimlik doğrulama çerezle yapılır; çerezsiz korumalı istek {@code /account/login}'e yönlendirilir
+ * (SessionCache/BackgroundCheckpoint probları gerçek uygulamadaki gibi çalışır).
+ * <p>
+ * Ayarlar (ConfigReader; {@code -Denv=standin} hepsini açar):
+ * <pre>
+ *   standin.enabled     (default: false)  Hooks @BeforeAll'da başlatır, baseUrl'i kendine çevirir
+ *   standin.port        (default: 0)      0 = boş port (paralel fork'lar çakışmaz)
+ *   standin.latency     (default: 0ms)    her yanıttan önce sunucu gecikmesi
+ *   standin.renderDelay (default: 150ms)  grid/scheduler'ın spinner arkasında çizilme gecikmesi
+ * </pre>
+ * Elle çalıştırma: {@code java -cp target/test-classes:... com.sinannuhoglu.standin.DoctorinStandIn [port]}.
+ */
+public final class DoctorinStandIn implements AutoCloseable {
+
+    static final String AUTH_COOKIE = "StandInAuth";
+
+    private static final String ASSETS = "/standin/";
+    private static final String LOGIN_PATH = "/account/login";
+
+    /** path → sayfa; login dışındakiler oturum ister. */
+    private static final Map<String, String> PAGES = Map.of(
+            LOGIN_PATH, "login.html",
+            "/", "dashboard.html",
+            "/appointment-service/appointments", "appointments.html",
+            "/appointment-service/appointment-resources", "resources.html");
+
+    private static final Set<String> PUBLIC = Set.of(LOGIN_PATH);
+
+    private static volatile DoctorinStandIn shared;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMs;
+    private final long renderDelayMs;
+    private final Map<String, byte[]> assets = new ConcurrentHashMap<>();
+
+    public DoctorinStandIn(int port, Duration latency, Duration renderDelay) throws IOException {
+        this.latencyMs = latency.toMillis();
+        this.renderDelayMs = renderDelay.toMillis();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        System.out.println("[StandIn] Başladı: " + baseUrl() + " (latency=" + latencyMs + " ms, render=" + renderDelayMs + " ms)");
+    }
+
+    /**
+     * Süreç genelinde tek sunucu; {@code standin.enabled} açıksa başlatır ve {@code baseUrl} system property'sini
+     * ona çevirir. Kapalıysa null döner.
+     */
+    public static synchronized DoctorinStandIn startShared(ConfigReader cfg) {
+        if (shared != null) return shared;
+        if (!cfg.getBoolean("standin.enabled", false)) return null;
+        try {
+            shared = new DoctorinStandIn(cfg.getInt("standin.port", 0),
+                    cfg.getDuration("standin.latency", Duration.ZERO),
+                    cfg.getDuration("standin.renderDelay", Duration.ofMillis(150)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Stand-in sunucusu başlatılamadı: " + e.getMessage(), e);
+        }
+        System.setProperty("baseUrl", shared.baseUrl() + LOGIN_PATH);
+        return shared;
+    }
+
+    /** Paylaşılan sunucuyu durdurur (yoksa bir şey yapmaz). */
+    public static synchronized void stopShared() {
+        if (shared == null) return;
+        shared.close();
+        shared = null;
+    }
+
+    /** {@code http://127.0.0.1:<port>} */
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        System.out.println("[StandIn] Durdu.");
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        new DoctorinStandIn(port, Duration.ZERO, Duration.ofMillis(150));
+    }
+
+    // ---------------------------------------------------------------------
+
+    private void handle(HttpExchange ex) throws IOException {
+        try (ex) {
+            if (latencyMs > 0) Thread.sleep(latencyMs);
+            String path = ex.getRequestURI().getPath();
+            String method = ex.getRequestMethod();
+
+            if (path.startsWith(ASSETS)) {
+                byte[] body = asset(path.substring(ASSETS.length()));
+                if (body == null) send(ex, 404, "text/plain", new byte[0]);
+                else send(ex, 200, contentType(path), body);
+            } else if (path.equals("/favicon.ico")) {
+                send(ex, 200, "image/x-icon", new byte[0]);
+            } else if (path.equals(LOGIN_PATH) && "POST".equals(method)) {
+                login(ex);
+            } else if (path.equals("/account/logout")) {
+                ex.getResponseHeaders().add("Set-Cookie", AUTH_COOKIE + "=; Path=/; Max-Age=0");
+                redirect(ex, LOGIN_PATH);
+            } else if (PAGES.containsKey(path)) {
+                if (!PUBLIC.contains(path) && !authenticated(ex)) {
+                    redirect(ex, LOGIN_PATH + "?ReturnUrl=" + path);
+                } else if (path.equals(LOGIN_PATH) && authenticated(ex)) {
+                    redirect(ex, "/");
+                } else {
+                    send(ex, 200, "text/html; charset=utf-8", page(PAGES.get(path)));
+                }
+            } else {
+                send(ex, 404, "text/plain", "not found".getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void login(HttpExchange ex) throws IOException {
+        Map<String, String> form = parseForm(new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        String user = form.getOrDefault("LoginInput.UserNameOrEmailAddress", "");
+        String pass = form.getOrDefault("LoginInput.Password", "");
+        if (user.isBlank() || pass.isBlank()) {
+            redirect(ex, LOGIN_PATH + "?error=1");
+            return;
+        }
+        ex.getResponseHeaders().add("Set-Cookie", AUTH_COOKIE + "=" + user.replaceAll("[^A-Za-z0-9._-]", "") + "; Path=/");
+        redirect(ex, "/");
+    }
+
+    private static boolean authenticated(HttpExchange ex) {
+        for (String header : ex.getRequestHeaders().getOrDefault("Cookie", List.of())) {
+            for (String c : header.split(";")) {
+                String t = c.trim();
+                if (t.startsWith(AUTH_COOKIE + "=") && t.length() > AUTH_COOKIE.length() + 1) return true;
+            }
+        }
+        return false;
+    }
+
+    /** HTML'deki {@code {{renderDelay}}} yer tutucusu her istekte doldurulur. */
+    private byte[] page(String name) {
+        String html = new String(asset(name), StandardCharsets.UTF_8);
+        return html.replace("{{renderDelay}}", String.valueOf(renderDelayMs)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] asset(String name) {
+        if (name.contains("..")) return null;
+        return assets.computeIfAbsent(name, n -> {
+            try (InputStream in = DoctorinStandIn.class.getResourceAsStream(ASSETS + n)) {
+                return in == null ? null : in.readAllBytes();
+            } catch (IOException e) {
+                return null;
+            }
+        });
+    }
+
+    private static void redirect(HttpExchange ex, String location) throws IOException {
+        ex.getResponseHeaders().add("Location", location);
+        ex.sendResponseHeaders(302, -1);
+    }
+
+    private static void send(HttpExchange ex, int status, String type, byte[] body) throws IOException {
+        ex.getResponseHeaders().add("Content-Type", type);
+        ex.getResponseHeaders().add("Cache-Control", "no-store");
+        ex.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = ex.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static String contentType(String path) {
+        if (path.endsWith(".js")) return "text/javascript; charset=utf-8";
+        if (path.endsWith(".css")) return "text/css; charset=utf-8";
+        if (path.endsWith(".html")) return "text/html; charset=utf-8";
+        return "application/octet-stream";
+    }
+
+    private static Map<String, String> parseForm(String body) {
+        Map<String, String> out = new HashMap<>();
+        for (String pair : body.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            out.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return out;
+    }
+}
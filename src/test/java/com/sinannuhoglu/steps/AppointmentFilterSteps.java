@@ -1,45 +1,38 @@
 package com.sinannuhoglu.steps;
 
-import com.sinannuhoglu.core.DriverManager;
 import com.sinannuhoglu.pages.AppointmentsPage;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 
-public class AppointmentFilterSteps {
-
-    private final AppointmentsPage page;
-
-    public AppointmentFilterSteps() {
-        this.page = new AppointmentsPage(DriverManager.getDriver());
-    }
+public class AppointmentFilterSteps extends BaseSteps {
 
     @When("I open the filter panel")
     public void iOpenTheFilterPanel() {
-        page.openFilterPanel();
+        on(AppointmentsPage.class).openFilterPanel();
     }
 
     @When("I choose branch {string} in filters")
     public void iChooseBranchInFilters(String branch) {
-        page.selectBranch(branch);
+        on(AppointmentsPage.class).selectBranch(branch);
     }
 
     @Then("branch filter should be {string}")
     public void branch_filter_should_be(String expectedBranch) {
-        page.assertBranchValue(expectedBranch);
+        on(AppointmentsPage.class).assertBranchValue(expectedBranch);
     }
 
     @When("I choose department {string} in filters")
     public void iChooseDepartmentInFilters(String dept) {
-        page.selectDepartment(dept);
+        on(AppointmentsPage.class).selectDepartment(dept);
     }
 
     @When("I keep only doctor {string} in resources")
     public void iKeepOnlyDoctorInResources(String doctor) {
-        page.keepOnlyDoctor(doctor);
+        on(AppointmentsPage.class).keepOnlyDoctor(doctor);
     }
 
     @When("I apply the filters")
     public void iApplyTheFilters() {
-        page.applyFilters();
+        on(AppointmentsPage.class).applyFilters();
     }
 }
@@ -1,21 +1,17 @@
 package com.sinannuhoglu.steps;
 
-import com.sinannuhoglu.core.DriverManager;
 import com.sinannuhoglu.pages.AppointmentsPage;
 import io.cucumber.java.Before;
 import io.cucumber.java.en.And;
-import org.openqa.selenium.WebDriver;
 
 /** Randevu slotu etkileşim adımları. */
-public class AppointmentSlotSteps {
+public class AppointmentSlotSteps extends BaseSteps {
 
-    private WebDriver driver;
     private AppointmentsPage appointments;
 
     @Before(order = 1)
     public void init() {
-        driver = DriverManager.getDriver();
-        appointments = new AppointmentsPage(driver);
+        appointments = on(AppointmentsPage.class);
     }
 
     @And("^I click the (\\d{1,2}):(\\d{2}) slot$")
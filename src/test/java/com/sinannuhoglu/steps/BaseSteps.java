@@ -1,21 +1,27 @@
 package com.sinannuhoglu.steps;
 
+import com.sinannuhoglu.core.BackgroundCheckpoint;
 import com.sinannuhoglu.core.ConfigReader;
-import com.sinannuhoglu.core.PageFactory;
 import com.sinannuhoglu.core.TestContext;
 import org.openqa.selenium.WebDriver;
 
-/** Ortak adım tabanı: TestContext, WebDriver/ConfigReader erişimi ve sayfa oluşturma yardımcıları. */
+/**
+ * Ortak adım tabanı: aktif thread'in TestContext'i, WebDriver/ConfigReader erişimi ve sayfa oluşturma yardımcıları.
+ * Bağlam her çağrıda thread'e göre çözülür; paralel senaryolar birbirinin oturumunu görmez.
+ */
 public abstract class BaseSteps {
 
-    protected final TestContext ctx = TestContext.get();
+    protected TestContext ctx() { return TestContext.get(); }
 
-    protected WebDriver driver() { return ctx.driver(); }
+    protected WebDriver driver() { return ctx().driver(); }
 
-    protected ConfigReader cfg() { return ctx.cfg(); }
+    protected ConfigReader cfg() { return ctx().cfg(); }
 
-    /** Page Object örneği oluşturur (PageFactory içindeki imza sıralamasını kullanır). */
+    /** Background checkpoint'ten geri yüklenmiş bir Background adımı mı? (true ise adım gövdesi atlanır) */
+    protected boolean fromCheckpoint() { return BackgroundCheckpoint.skipping(); }
+
+    /** Senaryo kapsamındaki Page Object örneğini döndürür (ilk çağrıda PageFactory ile oluşturulur). */
     protected <T> T on(Class<T> pageClass) {
-        return PageFactory.create(pageClass);
+        return ctx().page(pageClass);
     }
 }
@@ -1,23 +1,19 @@
 package com.sinannuhoglu.steps;
 
-import com.sinannuhoglu.core.DriverManager;
 import com.sinannuhoglu.pages.DashboardPage;
 import io.cucumber.java.en.When;
-import org.openqa.selenium.WebDriver;
 
 /** Dashboard navigasyon adımları. */
-public class DashboardSteps {
-
-    private final WebDriver driver = DriverManager.getDriver();
-    private final DashboardPage dashboard = new DashboardPage(driver);
+public class DashboardSteps extends BaseSteps {
 
     @When("I open the Appointments module")
     public void iOpenAppointmentsModule() {
-        dashboard.openAppointments();
+        if (fromCheckpoint()) return;
+        on(DashboardPage.class).openAppointments();
     }
 
     @When("I open the {string} module")
     public void iOpenNamedModule(String moduleName) {
-        dashboard.openModuleByName(moduleName);
+        on(DashboardPage.class).openModuleByName(moduleName);
     }
 }
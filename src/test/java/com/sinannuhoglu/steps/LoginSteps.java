@@ -1,40 +1,89 @@
 package com.sinannuhoglu.steps;
 
-import com.sinannuhoglu.core.DriverManager;
+import com.sinannuhoglu.core.SessionCache;
 import com.sinannuhoglu.pages.DashboardPage;
 import com.sinannuhoglu.pages.LoginPage;
 import com.sinannuhoglu.pages.TenantSelectPage;
+import com.sinannuhoglu.util.AppConfig;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
-import org.openqa.selenium.WebDriver;
 
-/** Login akışı adımları: tenant seçimi, giriş ve dashboard doğrulaması. */
-public class LoginSteps {
+/**
+ * Login akışı adımları: tenant seçimi, giriş ve dashboard doğrulaması.
+ * <p>
+ * SessionCache etkinse login sayfası ve tenant değişimi ertelenir; giriş adımında
+ * (tenant + kullanıcı) için yakalanmış oturum varsa enjekte edilir, yoksa ertelenen
+ * adımlar sırayla oynatılır ve dashboard'a inildiğinde oturum yakalanır.
+ * Background checkpoint'ten geri yüklenen senaryolarda adımlar atlanır.
+ */
+public class LoginSteps extends BaseSteps {
 
-    private final WebDriver driver = DriverManager.getDriver();
+    private boolean deferred;
+    private String tenant;
+    private String username;
+    private String password;
+    private String cacheKey;
+    private boolean restored;
 
     @Given("I am on the Doctorin login page")
     public void openLoginPage() {
-        new LoginPage(driver).open();
+        if (fromCheckpoint()) return;
+        if (SessionCache.isEnabled(cfg())) {
+            deferred = true;
+            return;
+        }
+        on(LoginPage.class).open();
     }
 
     @When("I switch tenant to {string}")
     public void switchTenant(String tenantName) {
-        new TenantSelectPage(driver)
-                .openTenantModal()
-                .selectTenant(tenantName);
+        if (fromCheckpoint()) return;
+        if (deferred) {
+            tenant = tenantName;
+            return;
+        }
+        selectTenant(tenantName);
     }
 
     @When("I login with username {string} and password {string}")
     public void loginWithCreds(String username, String password) {
-        new LoginPage(driver)
+        if (fromCheckpoint()) return;
+        if (deferred) {
+            this.username = username;
+            this.password = password;
+            cacheKey = SessionCache.key(AppConfig.baseUrl(), tenant, username);
+            restored = SessionCache.restore(driver(), cacheKey, SessionCache.ttl(cfg()));
+            if (restored) return;
+            replayDeferred();
+        }
+        on(LoginPage.class)
                 .fillCredentials(username, password)
                 .submit();
     }
 
     @Then("I should land on the dashboard")
     public void shouldBeOnDashboard() {
-        new DashboardPage(driver).assertLoaded();
+        if (fromCheckpoint()) return;
+        if (restored && SessionCache.redirectedToLogin(driver())) {
+            SessionCache.invalidate(cacheKey, "login'e yönlendirildi");
+            restored = false;
+            replayDeferred();
+            on(LoginPage.class).fillCredentials(username, password).submit();
+        }
+        on(DashboardPage.class).assertLoaded();
+        if (cacheKey != null && !restored) SessionCache.capture(driver(), cacheKey);
+    }
+
+    private void replayDeferred() {
+        deferred = false;
+        on(LoginPage.class).open();
+        if (tenant != null) selectTenant(tenant);
+    }
+
+    private void selectTenant(String tenantName) {
+        on(TenantSelectPage.class)
+                .openTenantModal()
+                .selectTenant(tenantName);
     }
 }
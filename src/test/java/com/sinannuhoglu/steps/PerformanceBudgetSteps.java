@@ -0,0 +1,56 @@
+package com.sinannuhoglu.steps;
+
+import com.sinannuhoglu.perf.ActionTimer;
+import io.cucumber.java.en.Then;
+import io.qameta.allure.Allure;
+
+/**
+ * Performans bütçesi adımları: page object'lerin {@link ActionTimer} ile ölçtüğü son eylem süresini bütçeyle
+ * karşılaştırır. Bütçe aşımı {@code budget.mode}'a göre senaryoyu düşürür ({@code fail}) ya da yalnızca
+ * loglanıp Allure'a eklenir ({@code warn}, default). Ölçüm yoksa (ör. adım checkpoint'ten geri yüklendi)
+ * adım not düşer ve geçer.
+ * <p>
+ * Ölçülen eylemler: {@code appointments.load} (modül tıklaması → sayfa hazır), {@code workplan.save}
+ * (Kaydet → istek + modal kapanışı), {@code patient.search} (Ara → sonuçlar).
+ */
+public class PerformanceBudgetSteps extends BaseSteps {
+
+    @Then("the Appointments page should load within {int} second(s)")
+    public void appointmentsPageShouldLoadWithin(int seconds) {
+        check(ActionTimer.APPOINTMENTS_LOAD, seconds * 1000L);
+    }
+
+    @Then("saving the workplan should complete within {int} ms")
+    public void savingWorkplanShouldCompleteWithin(int ms) {
+        check(ActionTimer.WORKPLAN_SAVE, ms);
+    }
+
+    @Then("the patient search should complete within {int} ms")
+    public void patientSearchShouldCompleteWithin(int ms) {
+        check(ActionTimer.PATIENT_SEARCH, ms);
+    }
+
+    @Then("the {string} action should complete within {int} ms")
+    public void actionShouldCompleteWithin(String action, int ms) {
+        check(action, ms);
+    }
+
+    private void check(String action, long budgetMs) {
+        if (fromCheckpoint()) return;
+        Long measured = ActionTimer.last(action);
+        if (measured == null) {
+            System.out.println("[Budget] " + action + " ölçülmedi; bütçe (" + budgetMs + " ms) kontrol edilmedi.");
+            return;
+        }
+        if (measured <= budgetMs) {
+            System.out.println("[Budget] " + action + ": " + measured + " ms ≤ " + budgetMs + " ms");
+            return;
+        }
+        String msg = action + " bütçeyi aştı: " + measured + " ms > " + budgetMs + " ms";
+        if ("fail".equalsIgnoreCase(cfg().get("budget.mode", "warn").trim())) {
+            throw new AssertionError(msg);
+        }
+        System.out.println("[Budget] UYARI: " + msg);
+        Allure.addAttachment("Budget warning: " + action, "text/plain", msg, ".txt");
+    }
+}
@@ -1,3 +1,4 @@
+@standin
 Feature: Randevu oluşturma, tamamlama ve silme
 
   Background:
@@ -7,6 +8,7 @@ Feature: Randevu oluşturma, tamamlama ve silme
     And I should land on the dashboard
     And I open the Appointments module
     And I should be on the appointments page
+    And the Appointments page should load within 10 seconds
 
   @smoke @appointment_e2e
   Scenario: Filtreleri uygula ve randevu slotunu aç
@@ -18,5 +20,6 @@ Feature: Randevu oluşturma, tamamlama ve silme
     And I apply the filters
     And I click the 10:30 slot
     And I search patient "HASTANUR İYİLEŞMEZ"
+    And the patient search should complete within 3000 ms
     And I open the appointment details again
     And I delete the appointment of the last slot
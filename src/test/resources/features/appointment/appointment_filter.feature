@@ -1,4 +1,4 @@
-@filters @smoke @appointment_e2e
+@filters @smoke @appointment_e2e @standin
 Feature: Appointment filters
 
   Background:
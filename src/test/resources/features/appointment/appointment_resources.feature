@@ -23,3 +23,4 @@ Feature: Definitions > Resources workplan operations
     And I select Platform as "Hepsini Seç"
     And I select Department as "Hepsini Seç"
     And I click the Save button in the Workplan modal
+    Then saving the workplan should complete within 5000 ms
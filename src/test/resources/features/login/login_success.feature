@@ -1,3 +1,4 @@
+@standin
 Feature: Login
 
   @smoke @login
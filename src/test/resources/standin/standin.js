@@ -0,0 +1,453 @@
+/*
+ * Doctorin stand-in davranışları: page object'lerin beklediği DOM yapısını ve etkileşimleri taklit eder.
+ * Veriler sabittir; her sayfa yüklenişinde sıfırlanır (randevular sayfa ömrü boyunca tutulur).
+ */
+var StandIn = (function () {
+    'use strict';
+
+    var BRANCHES = {
+        'Nişantaşı': {
+            'Dahiliye': ['Prof. Dr. Derman Bulur', 'Uzm. Dr. Ayşe Kaya', 'Uzm. Dr. Selin Aksoy'],
+            'KBB': ['Prof. Dr. Derman Bulur', 'Op. Dr. Mehmet Demir'],
+            'Kardiyoloji': ['Prof. Dr. Turgut Aydin', 'Doç. Dr. Cem Yıldız']
+        },
+        'Ataşehir': {
+            'Dahiliye': ['Uzm. Dr. Elif Şahin'],
+            'Ortopedi': ['Op. Dr. Kerem Öztürk']
+        }
+    };
+    var PATIENTS = ['HASTANUR İYİLEŞMEZ', 'AHMET YILMAZ', 'ZEYNEP KARA', 'MEHMET ÖZ'];
+    var DAYS = ['Pazar', 'Pazartesi', 'Salı', 'Çarşamba', 'Perşembe', 'Cuma', 'Cumartesi'];
+
+    function $(css, root) { return (root || document).querySelector(css); }
+    function $$(css, root) { return Array.prototype.slice.call((root || document).querySelectorAll(css)); }
+    function el(tag, attrs, text) {
+        var e = document.createElement(tag);
+        Object.keys(attrs || {}).forEach(function (k) { e.setAttribute(k, attrs[k]); });
+        if (text != null) e.textContent = text;
+        return e;
+    }
+    function pad(n) { return (n < 10 ? '0' : '') + n; }
+    function lower(s) { return String(s || '').toLocaleLowerCase('tr'); }
+
+    function renderDelay() {
+        var m = document.querySelector("meta[name='standin-render-delay']");
+        var v = m ? parseInt(m.getAttribute('content'), 10) : 0;
+        return isNaN(v) ? 0 : v;
+    }
+
+    /** Spinner göster, gecikmeden sonra çiz ve spinner'ı gizle. */
+    function busy(spinner, fn) {
+        spinner.classList.remove('e-spin-hide');
+        setTimeout(function () { fn(); spinner.classList.add('e-spin-hide'); }, renderDelay());
+    }
+
+    // ------------------------------------------------------------------ login
+
+    function login() {
+        var modal = $('#TenantSwitchModal');
+        var current = $('#CurrentTenantName');
+        var m = document.cookie.match(/(?:^|; )__tenant=([^;]*)/);
+        if (m) current.textContent = decodeURIComponent(m[1]);
+
+        $('#AppTenantSwitchLink').addEventListener('click', function (e) {
+            e.preventDefault();
+            modal.hidden = false;
+            $('#Input_Name').focus();
+        });
+        $('form', modal).addEventListener('submit', function (e) {
+            e.preventDefault();
+            var name = $('#Input_Name').value.trim();
+            document.cookie = '__tenant=' + encodeURIComponent(name) + '; path=/';
+            current.textContent = name || 'Seçilmedi';
+            setTimeout(function () { modal.hidden = true; }, 50);
+        });
+    }
+
+    // ----------------------------------------------------------- appointments
+
+    /** Syncfusion dropdown benzeri: blok + input + ikon, body altında {inputId}_popup. */
+    function dropdown(block, options, onSelect) {
+        var input = $('input', block);
+        var icon = $('.e-ddl-icon', block);
+        var popup = null;
+
+        function close() {
+            if (popup) { popup.remove(); popup = null; }
+            block.setAttribute('aria-expanded', 'false');
+        }
+        function open() {
+            if (block.classList.contains('e-disabled')) return;
+            close();
+            popup = el('div', { id: input.id + '_popup', 'class': 'e-popup e-popup-open e-dropdownbase' });
+            var ul = el('ul', { role: 'listbox', 'class': 'e-list-parent' });
+            options().forEach(function (o) {
+                var li = el('li', { role: 'option', 'class': 'e-list-item' }, o);
+                li.addEventListener('click', function () {
+                    input.value = o;
+                    close();
+                    onSelect(o);
+                });
+                ul.appendChild(li);
+            });
+            popup.appendChild(ul);
+            var r = block.getBoundingClientRect();
+            popup.style.top = (r.bottom + window.scrollY) + 'px';
+            popup.style.left = (r.left + window.scrollX) + 'px';
+            document.body.appendChild(popup);
+            block.setAttribute('aria-expanded', 'true');
+        }
+        icon.addEventListener('click', function (e) { e.stopPropagation(); popup ? close() : open(); });
+        input.addEventListener('click', function (e) { e.stopPropagation(); popup ? close() : open(); });
+        block.addEventListener('click', function () { if (!popup) open(); });
+        return { close: close };
+    }
+
+    function enable(block, on) {
+        block.classList.toggle('e-disabled', !on);
+        $$('input', block).forEach(function (i) { i.setAttribute('aria-disabled', on ? 'false' : 'true'); });
+    }
+
+    function chips(block, doctors) {
+        var coll = $('.e-chips-collection', block);
+        coll.innerHTML = '';
+        doctors.forEach(function (d) {
+            var chip = el('span', { 'class': 'e-chips', title: d });
+            chip.appendChild(el('span', { 'class': 'e-chipcontent' }, d));
+            var x = el('span', { 'class': 'e-chips-close' });
+            x.addEventListener('click', function (e) { e.stopPropagation(); chip.remove(); });
+            chip.appendChild(x);
+            coll.appendChild(chip);
+        });
+    }
+
+    function filterPanel() {
+        var panel = $('#FilterPanel');
+        var loc = $("[data-testid='location-filter']");
+        var dep = $("[data-testid='department-filter']");
+        var doc = $("[data-testid='doctor-filter']");
+
+        $('#FilterToggle').addEventListener('click', function () { panel.hidden = false; });
+        $("[data-testid='accept-button']").addEventListener('click', function () {
+            setTimeout(function () { panel.hidden = true; }, 100);
+        });
+
+        dropdown(loc, function () { return Object.keys(BRANCHES); }, function (b) {
+            $('input', dep).value = '';
+            var all = [];
+            Object.keys(BRANCHES[b]).forEach(function (k) {
+                BRANCHES[b][k].forEach(function (d) { if (all.indexOf(d) < 0) all.push(d); });
+            });
+            setTimeout(function () { enable(dep, true); enable(doc, true); chips(doc, all); }, 80);
+        });
+        dropdown(dep, function () {
+            var b = BRANCHES[$('input', loc).value];
+            return b ? Object.keys(b) : [];
+        }, function (d) {
+            var docs = BRANCHES[$('input', loc).value][d];
+            enable(doc, false);
+            setTimeout(function () { chips(doc, docs); enable(doc, true); }, 80);
+        });
+    }
+
+    function scheduler() {
+        var wrap = $('#Schedule-1 .e-content-wrap');
+        var tbody = $('tbody', wrap);
+        var today = new Date();
+        var label = DAYS[today.getDay()] + ', ' + today.toLocaleDateString('tr-TR');
+
+        busy($('#Schedule-1 .e-spinner-pane'), function () {
+            for (var i = 0; i < 48; i++) {
+                var hhmm = pad(Math.floor(i / 2)) + ':' + (i % 2 ? '30' : '00');
+                var tr = el('tr', { role: 'row' });
+                var td = el('td', {
+                    'class': 'e-work-cells', 'data-group-index': '0', role: 'gridcell',
+                    'aria-label': hhmm + ' ' + label, 'data-row': String(i)
+                });
+                tr.appendChild(td);
+                tbody.appendChild(tr);
+            }
+            wrap.scrollTop = 8 * 2 * 36;
+        });
+        tbody.addEventListener('click', function (e) {
+            var td = e.target.closest('td.e-work-cells');
+            if (td) openSidebar(parseInt(td.getAttribute('data-row'), 10));
+        });
+    }
+
+    // ---- drawer: hasta arama + kaydet
+
+    var slotRow = -1, patient = null;
+
+    function sidebar() { return $("[data-testid='sidebar-content']"); }
+
+    function openSidebar(row) {
+        slotRow = row;
+        patient = null;
+        var sb = sidebar();
+        $('#appointment-patient-search').value = '';
+        $("[data-testid='popover-template']").hidden = true;
+        $('#dataform-appointment').hidden = true;
+        sb.style.display = 'block';
+        sb.style.opacity = '0';
+        setTimeout(function () { sb.style.opacity = '1'; }, 60);
+    }
+
+    function drawer() {
+        var pop = $("[data-testid='popover-template']");
+        $('#PatientSearchButton').addEventListener('click', function () {
+            var q = lower($('#appointment-patient-search').value.trim());
+            pop.innerHTML = '';
+            pop.hidden = true;
+            setTimeout(function () {
+                PATIENTS.filter(function (p) { return !q || lower(p).indexOf(q) >= 0; }).forEach(function (p, i) {
+                    var item = el('div', { 'data-testid': 'patient-item-' + (i + 1), 'class': 'cursor-pointer' });
+                    item.appendChild(el('p', { 'data-testid': 'patient-name-' + (i + 1), title: p }, p));
+                    item.addEventListener('click', function () {
+                        patient = p;
+                        pop.hidden = true;
+                        $('#SelectedPatient').textContent = p;
+                        $('#dataform-appointment').hidden = false;
+                    });
+                    pop.appendChild(item);
+                });
+                pop.hidden = false;
+            }, renderDelay());
+        });
+        $('#dataform-appointment').addEventListener('submit', function (e) {
+            e.preventDefault();
+            if (patient == null || slotRow < 0) return;
+            addTile(slotRow, patient);
+            sidebar().style.display = 'none';
+        });
+    }
+
+    // ---- randevu kutuları + quick popup
+
+    var tiles = {};
+
+    function addTile(row, name) {
+        var wrap = $('#Schedule-1 .e-content-wrap');
+        var start = row * 30, end = start + 30;
+        var s = pad(Math.floor(start / 60)) + ':' + pad(start % 60), f = pad(Math.floor(end / 60)) + ':' + pad(end % 60);
+        var tile = el('div', {
+            'class': 'e-appointment e-lib e-draggable e-appointment-border', role: 'button', 'data-group-index': '0',
+            'data-top-start-duration': String(start * 60000), 'aria-label': name + ' Begin From ' + s + ':00',
+            style: 'top: ' + (row * 36 + 1) + 'px;'
+        });
+        var details = el('div', { 'class': 'e-appointment-details' });
+        details.appendChild(el('span', { 'class': 'font-semibold' }, name));
+        details.appendChild(el('span', { 'class': 'text-xs' }, s + ' - ' + f));
+        details.appendChild(el('span', { 'data-testid': 'event-icon' }, '•'));
+        tile.appendChild(details);
+        tile.addEventListener('click', function () { quickPopup(row); });
+        wrap.appendChild(tile);
+        tiles[row] = { el: tile, name: name, status: 'Bekliyor' };
+    }
+
+    function closeQuickPopup() {
+        var q = $('.e-quick-popup-wrapper');
+        if (q) q.remove();
+    }
+
+    function quickPopup(row) {
+        closeQuickPopup();
+        var t = tiles[row];
+        if (!t) return;
+        var q = el('div', { 'class': 'e-quick-popup-wrapper e-lib e-popup', role: 'dialog' });
+        var header = el('div', { 'data-testid': 'quick-info-header' });
+        header.appendChild(el('span', { 'class': 'font-semibold e-popup-header-title-text' }, t.name));
+        var close = el('button', { type: 'button', 'data-testid': 'quick-info-close-button', 'class': 'e-icon-btn' }, '×');
+        close.addEventListener('click', closeQuickPopup);
+        header.appendChild(close);
+        q.appendChild(header);
+        var status = el('p', { 'class': 'text-surface-500 text-xs truncate' }, t.status);
+        q.appendChild(status);
+        var footer = el('div', { 'data-testid': 'appointment-footer' });
+        var checkin = el('button', { type: 'button', 'data-testid': 'status-button' }, 'Check-in');
+        checkin.addEventListener('click', function () {
+            setTimeout(function () { t.status = 'Geldi'; status.textContent = 'Geldi'; }, renderDelay());
+        });
+        var del = el('button', { type: 'button', 'data-testid': 'appointment-delete-button' }, 'Sil');
+        del.addEventListener('click', function () { confirmDelete(row); });
+        footer.appendChild(checkin);
+        footer.appendChild(del);
+        q.appendChild(footer);
+        document.body.appendChild(q);
+    }
+
+    function dialog(id, text, buttonAttrs, buttonText, onOk) {
+        var c = el('div', { 'class': 'e-dlg-container' });
+        var d = el('div', { id: id, 'class': 'e-dialog e-dlg-modal', role: 'dialog' });
+        d.appendChild(el('div', { 'class': 'e-dlg-content' }, text));
+        var footer = el('div', { 'class': 'e-footer-content' });
+        var ok = el('button', buttonAttrs, buttonText);
+        ok.addEventListener('click', function () { c.remove(); onOk(); });
+        footer.appendChild(ok);
+        d.appendChild(footer);
+        c.appendChild(d);
+        document.body.appendChild(c);
+    }
+
+    function confirmDelete(row) {
+        dialog('modal-dialog-confirm', 'Randevu silinsin mi?', { type: 'button', 'class': 'e-btn e-primary' }, 'Evet', function () {
+            dialog('modal-dialog-reason', 'Silme nedeni kaydedildi.', { type: 'button', id: 'okay-button', 'class': 'e-btn e-primary' }, 'Tamam', function () {
+                var t = tiles[row];
+                if (t) { t.el.remove(); delete tiles[row]; }
+                closeQuickPopup();
+            });
+        });
+    }
+
+    function appointments() {
+        var defs = $('#MenuItem_AppointmentService_AppointmentManagement_AppointmentDefinitions');
+        defs.addEventListener('click', function (e) {
+            e.preventDefault();
+            $('#DefinitionsMenu').hidden = false;
+        });
+        filterPanel();
+        scheduler();
+        drawer();
+    }
+
+    // -------------------------------------------------------------- resources
+
+    function resourceData() {
+        var names = [];
+        var titles = ['Uzm. Dr.', 'Op. Dr.', 'Doç. Dr.', 'Dyt.', 'Psk.'];
+        var surnames = ['Arslan', 'Balcı', 'Çelik', 'Doğan', 'Erdem', 'Güneş', 'Işık', 'Kaplan', 'Koç', 'Polat',
+            'Sarı', 'Tekin', 'Uçar', 'Vural', 'Yalçın'];
+        var given = ['Ali', 'Burcu', 'Deniz', 'Ebru', 'Hakan', 'İrem', 'Murat', 'Nazlı'];
+        for (var i = 0; i < 60; i++) {
+            names.push(titles[i % titles.length] + ' ' + given[i % given.length] + ' ' + surnames[i % surnames.length]);
+        }
+        names.splice(37, 0, 'Prof. Dr. Derman Bulur');
+        names.splice(51, 0, 'Prof. Dr. Turgut Aydin');
+        return names.map(function (n, i) {
+            return { name: n, branch: i % 3 ? 'Nişantaşı' : 'Ataşehir', type: 'Doktor', active: i % 7 !== 0 };
+        });
+    }
+
+    function resources() {
+        var host = $('#Grid');
+        var content = $('.e-gridcontent .e-content', host);
+        var tbody = $('#Grid_content_table tbody');
+        var spinner = $('.e-spinner-pane', host);
+        var pagerInput = $('#dropdownlist-pager');
+        var popup = $('#dropdownlist-pager_popup');
+        var all = resourceData(), view = all, page = 0, size = parseInt(pagerInput.value, 10);
+        var listeners = [];
+
+        var grid = {
+            currentViewData: [],
+            columns: [{ field: 'name', visible: true }, { field: 'branch' }, { field: 'type' }, { field: 'active' }],
+            getColumns: function () { return this.columns; },
+            getRowByIndex: function (i) { return $$('tr.e-row', tbody)[i] || null; },
+            getRowHeight: function () { return 36; },
+            search: function (text) {
+                var q = lower(text);
+                view = all.filter(function (r) { return lower(r.name).indexOf(q) >= 0; });
+                page = 0;
+                render();
+            },
+            addEventListener: function (n, fn) { if (n === 'dataBound') listeners.push(fn); },
+            removeEventListener: function (n, fn) { listeners = listeners.filter(function (x) { return x !== fn; }); }
+        };
+        host.ej2_instances = [grid];
+
+        function cell(i, cls) { return el('td', { 'class': 'e-rowcell' + (cls ? ' ' + cls : ''), 'aria-colindex': String(i) }); }
+
+        function row(r, i) {
+            var tr = el('tr', { 'class': 'e-row', role: 'row', 'aria-rowindex': String(i + 1) });
+            var c1 = cell(1); c1.textContent = r.name; tr.appendChild(c1);
+            var c2 = cell(2); c2.textContent = r.branch; tr.appendChild(c2);
+            var c3 = cell(3); c3.textContent = r.type; tr.appendChild(c3);
+            var c4 = cell(4);
+            var sw = el('div', { 'class': 'e-switch-wrapper' + (r.active ? ' e-switch-active' : ''), 'aria-disabled': 'false' });
+            var cb = el('input', { type: 'checkbox' });
+            cb.checked = r.active;
+            sw.appendChild(cb);
+            sw.appendChild(el('span', { 'class': 'e-switch-inner' }));
+            sw.appendChild(el('span', { 'class': 'e-switch-handle' }));
+            sw.addEventListener('click', function () {
+                r.active = !r.active;
+                cb.checked = r.active;
+                sw.classList.toggle('e-switch-active', r.active);
+            });
+            c4.appendChild(sw);
+            tr.appendChild(c4);
+            var c5 = cell(5, 'e-unboundcell e-rightalign');
+            var edit = el('button', { type: 'button', title: 'Düzenle', 'class': 'e-btn e-editbutton' });
+            edit.appendChild(el('span', { 'class': 'e-icons e-edit' }));
+            edit.addEventListener('click', function () { editor(r); });
+            c5.appendChild(edit);
+            tr.appendChild(c5);
+            return tr;
+        }
+
+        function render() {
+            busy(spinner, function () {
+                var slice = view.slice(page * size, (page + 1) * size);
+                tbody.innerHTML = '';
+                slice.forEach(function (r, i) { tbody.appendChild(row(r, page * size + i)); });
+                grid.currentViewData = slice;
+                content.scrollTop = 0;
+                var pages = Math.max(1, Math.ceil(view.length / size));
+                $('.e-pagecountmsg', host).textContent = (page + 1) + ' / ' + pages + ' sayfa (' + view.length + ' kayıt)';
+                listeners.slice().forEach(function (fn) { fn(); });
+            });
+        }
+
+        $('.e-pagerdropdown .e-ddl-icon', host).addEventListener('click', function () {
+            var r = pagerInput.getBoundingClientRect();
+            popup.style.top = (r.bottom + window.scrollY) + 'px';
+            popup.style.left = (r.left + window.scrollX) + 'px';
+            popup.hidden = false;
+            popup.classList.add('e-popup-open');
+        });
+        $$('li', popup).forEach(function (li) {
+            li.addEventListener('click', function () {
+                popup.hidden = true;
+                popup.classList.remove('e-popup-open');
+                size = parseInt(li.textContent, 10);
+                pagerInput.value = String(size);
+                page = 0;
+                render();
+            });
+        });
+        $('.e-prev', host).addEventListener('click', function () { if (page > 0) { page--; render(); } });
+        $('.e-next', host).addEventListener('click', function () {
+            if ((page + 1) * size < view.length) { page++; render(); }
+        });
+        render();
+    }
+
+    /** Kaynak düzenleme diyaloğu: sekme başlıkları (Çalışma Takvimi editörü kopyalanmadı). */
+    function editor(r) {
+        var c = el('div', { 'class': 'e-dlg-container appointment-resources__dialog' });
+        var d = el('div', { 'class': 'e-dialog e-dlg-modal', role: 'dialog' });
+        d.appendChild(el('div', { 'class': 'e-dlg-header' }, r.name));
+        var header = el('div', { 'class': 'e-control e-toolbar e-lib e-tab-header' });
+        var scroll = el('div', { 'class': 'e-hscroll-content' });
+        ['Genel', 'Çalışma Takvimi', 'İzinler'].forEach(function (t, i) {
+            var tab = el('div', { 'class': 'e-toolbar-item' + (i === 0 ? ' e-active' : '') });
+            tab.appendChild(el('div', { 'class': 'e-tab-text' }, t));
+            tab.addEventListener('click', function () {
+                $$('.e-toolbar-item', scroll).forEach(function (x) { x.classList.remove('e-active'); });
+                tab.classList.add('e-active');
+            });
+            scroll.appendChild(tab);
+        });
+        header.appendChild(scroll);
+        d.appendChild(header);
+        var footer = el('div', { 'class': 'e-footer-content' });
+        var close = el('button', { type: 'button', 'class': 'e-btn' }, 'Kapat');
+        close.addEventListener('click', function () { c.remove(); });
+        footer.appendChild(close);
+        d.appendChild(footer);
+        c.appendChild(d);
+        document.body.appendChild(c);
+    }
+
+    return { login: login, appointments: appointments, resources: resources };
+})();